@@ -0,0 +1,120 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Receives the results of a batchCallBack as soon as they are available, so
+ * each invocation of the execute*(...) methods is given its result without
+ * waiting for the whole batch (see the createStreaming(...) factory methods of
+ * the Delayed Batch Executors). <br>
+ * <br>
+ * The results can be emitted from any thread and in any order, either by their
+ * position in the lists of arguments received by the batchCallBack or by the
+ * arguments themselves. Either {@link #complete()} or
+ * {@link #error(RuntimeException)} must be invoked when the batchCallBack is
+ * done, unless a result has been emitted for every position. The invocations
+ * whose result has not been emitted get null (after {@link #complete()}) or the
+ * given {@link RuntimeException} (after {@link #error(RuntimeException)})
+ * <br>
+ * <br>
+ * This interface is thread safe <br>
+ *
+ * @param <Z> the return type
+ *
+ * @author Victor Porcar
+ *
+ */
+public interface BatchResultSink<Z> {
+
+	/**
+	 * Emit the result for the given position of the lists of arguments received
+	 * by the batchCallBack. A result emitted twice for the same position is
+	 * ignored
+	 *
+	 * @param index  the position in the lists of arguments
+	 * @param result the result for that position
+	 *
+	 */
+	void emit(int index, Z result);
+
+	/**
+	 * Emit the result for every position of the lists of arguments received by the
+	 * batchCallBack holding the given arguments (considering same
+	 * {@link Object#hashCode()} and being {@link Object#equals(Object)})
+	 *
+	 * @param result    the result for those positions
+	 * @param arguments the arguments, in the same order as in the execute*(...)
+	 *                  methods
+	 *
+	 */
+	void emitForArguments(Z result, Object... arguments);
+
+	/**
+	 * Emit the result for every position of the lists of arguments received by the
+	 * batchCallBack whose key is the given one (see
+	 * {@link DelayedBatchExecutorConfig#withKeyExtractor(java.util.function.Function)}).
+	 * If there is no key extractor, the key is the list of arguments
+	 *
+	 * @param result the result for those positions
+	 * @param key    the key of the arguments
+	 * @throws IllegalArgumentException if the keys are compared by reference and
+	 *                                  there is no key extractor, but the key is
+	 *                                  not a {@link List}
+	 *
+	 */
+	void emitForKey(Z result, Object key);
+
+	/**
+	 * Signal the batchCallBack is done. The positions whose result has not been
+	 * emitted get null
+	 */
+	void complete();
+
+	/**
+	 * Signal the batchCallBack failed. The positions whose result has not been
+	 * emitted get the given {@link RuntimeException}
+	 *
+	 * @param runtimeException the exception thrown by the invocations of the
+	 *                         execute*(...) methods
+	 *
+	 */
+	void error(RuntimeException runtimeException);
+
+	/**
+	 * Emit the results of the list by position and complete
+	 *
+	 * @param resultList the results, in the same order as the lists of arguments
+	 *                   received by the batchCallBack
+	 *
+	 */
+	default void completeWith(List<Z> resultList) {
+		if (resultList != null) {
+			for (int index = 0; index < resultList.size(); index++) {
+				emit(index, resultList.get(index));
+			}
+		}
+		complete();
+	}
+
+	/**
+	 * Emit the results of the list by position and complete when the given
+	 * {@link CompletionStage} completes, or signal the error it completes with
+	 *
+	 * @param resultListCompletionStage the {@link CompletionStage} of the results
+	 *
+	 */
+	default void completeWith(CompletionStage<List<Z>> resultListCompletionStage) {
+		if (resultListCompletionStage == null) {
+			complete();
+			return;
+		}
+		resultListCompletionStage.whenComplete((resultList, throwable) -> {
+			if (throwable == null) {
+				completeWith(resultList);
+			} else {
+				error(TupleListResultSink.toRuntimeException(throwable));
+			}
+		});
+	}
+}
@@ -0,0 +1,57 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * The execution of a batch passed to the ExecutorService, carrying the
+ * deadline of the batch so a {@link DelayedBatchExecutorGroup} may execute
+ * first the batch closest to it, and telling when the batch has finished,
+ * which may be after run() returns if the batchCallBack is asynchronous
+ */
+class BatchRunnable implements Runnable {
+
+	private final long deadlineNanos;
+	private final Consumer<Runnable> batch;
+	private final AtomicReference<Runnable> finishListener;
+
+	/**
+	 * the given batch receives the runnable to be invoked once it has finished
+	 */
+	BatchRunnable(long deadlineNanos, Consumer<Runnable> batch) {
+		this.deadlineNanos = deadlineNanos;
+		this.batch = batch;
+		this.finishListener = new AtomicReference<>();
+	}
+
+	/**
+	 * the System.nanoTime() by which the batch should have been executed
+	 */
+	long getDeadlineNanos() {
+		return deadlineNanos;
+	}
+
+	/**
+	 * the given listener is invoked once when the batch has finished. It must be
+	 * set before it is run
+	 */
+	void setFinishListener(Runnable finishListener) {
+		this.finishListener.set(finishListener);
+	}
+
+	@Override
+	public void run() {
+		batch.accept(this::finish);
+	}
+
+	/**
+	 * it can be invoked more than once, the listener is invoked only the first
+	 * time
+	 */
+	void finish() {
+		Runnable finishListenerToRun = finishListener.getAndSet(null);
+		if (finishListenerToRun != null) {
+			finishListenerToRun.run();
+		}
+	}
+}
@@ -3,23 +3,33 @@ package com.github.victormpcmun.delayedbatchexecutor;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
-import reactor.core.publisher.UnicastProcessor;
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 
 	private static final String TO_STRING_FORMAT = "DelayedBatchExecutor {invocationsCounter=%d, callBackExecutionsCounter=%d, duration=%d, size=%d, bufferQueueSize=%d}";
 
+	private static final Object NULL_PARTITION = new Object(); // the partition of the null ones
+
 	/**
 	 * {@value com.github.victormpcmun.delayedbatchexecutor.DelayedBatchExecutor#MIN_TIME_WINDOW_TIME_IN_MILLISECONDS}
 	 */
@@ -45,34 +55,116 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 	 */
 	public static final int DEFAULT_BUFFER_QUEUE_SIZE = 8192;
 
+	/**
+	 * {@value com.github.victormpcmun.delayedbatchexecutor.DelayedBatchExecutor#DEFAULT_CLOSE_TIMEOUT_IN_MILLISECONDS}
+	 */
+	public static final int DEFAULT_CLOSE_TIMEOUT_IN_MILLISECONDS = 60 * 1000;
+
 	private final AtomicLong invocationsCounter;
 	private final AtomicLong callBackExecutionsCounter;
-
-	private Duration duration;
-	private int maxSize;
-	private ExecutorService executorService;
-	private int bufferQueueSize;
-	private UnicastProcessor<Tuple<Z>> source;
-	private boolean removeDuplicates;
-
+	private final AtomicLong unfinishedInvocationsCounter;
+	private final Object unfinishedInvocationsLocker;
+	private final TupleAccumulator<Z> tupleAccumulator; // null if there is a partitioner
+	private final Map<Object, TupleAccumulator<Z>> partitionTupleAccumulatorMap;
+	private final List<ExecutorService> partitionExecutorServiceList;
+	private final AtomicInteger partitionExecutorServiceCounter;
+	private final Object partitionsLocker; // a partition is not created while closing or updating the config
+	private volatile boolean closed;
+
+	private volatile Duration duration;
+	private volatile int maxSize;
+	private volatile ExecutorService executorService;
+	private volatile int bufferQueueSize;
+	private volatile boolean removeDuplicates;
+
+	private final boolean removeDuplicatesOnEnlist;
+	private final boolean countDistinctArguments;
+	private final TupleKeyStrategy tupleKeyStrategy;
+	private final ToIntFunction<List<Object>> weigher;
+	private final Function<List<Object>, Object> tenantExtractor;
+	private final long maxWeight;
+	private final int maxSubBatches;
+	private final int minSubBatchSize;
+	private final boolean idleDispatch;
+	private final FlushPolicy flushPolicy;
+	private final int maxConcurrentBatches;
+	private final boolean leaderFollower;
+	private final WaitStrategy waitStrategy;
+	private final ExecutorService completionExecutorService;
+	private final int completionChunkSize;
+	private final TokenBucket rateLimiter;
+	private final DelayedBatchExecutorConfig partitionTemplateConfig;
+	private final Function<List<Object>, Object> partitioner;
+	private final boolean partitionAffinity;
 	private final boolean defaultExecutorServiceCreated;
 
 	protected DelayedBatchExecutor(Duration duration, int maxSize, ExecutorService executorService, int bufferQueueSize,
 			boolean removeDuplicates) {
+		this(DelayedBatchExecutorConfig.create(duration, maxSize).withExecutorService(executorService)
+				.withBufferQueueSize(bufferQueueSize).withRemoveDuplicates(removeDuplicates));
+	}
+
+	protected DelayedBatchExecutor(DelayedBatchExecutorConfig config) {
+		ExecutorService executorService = config.getExecutorService();
 		if (executorService == null) {
 			executorService = getDefaultExecutorService();
 			defaultExecutorServiceCreated = true;
 		} else {
 			defaultExecutorServiceCreated = false;
 		}
-		boolean configurationSuccessful = updateConfig(duration, maxSize, executorService, bufferQueueSize,
-				removeDuplicates);
-		if (!configurationSuccessful) {
+		if (!validateConfigurationParameters(config.getDuration(), config.getMaxSize(), executorService,
+				config.getBufferQueueSize()) || config.getMaxWeight() < 1 || config.getMaxSubBatches() < 1
+				|| config.getMinSubBatchSize() < 1 || config.getFlushPolicy() == null
+				|| config.getMaxConcurrentBatches() < 1 || config.getWaitStrategy() == null
+				|| config.getCompletionChunkSize() < 1 || config.getMaxCoalescedSize() < 0
+				|| !(config.getRateLimit() >= 0) || config.getRateLimitBurst() < 1
+				|| (config.getRateLimit() > 0 && config.getMaxSubBatches() > 1)
+				|| (config.getQueueDelayTarget() != null && config.getQueueDelayTarget().isNegative())
+				|| config.getQueueDelayInterval() == null || config.getQueueDelayInterval().isNegative()
+				|| config.getMaxPendingPerTenant() < 1
+				|| !validatePartitionConfigs(config, executorService)) {
 			throw new RuntimeException("Illegal configuration parameters");
 		}
+		this.duration = config.getDuration();
+		this.maxSize = config.getMaxSize();
+		this.executorService = executorService;
+		this.bufferQueueSize = config.getBufferQueueSize();
+		this.removeDuplicates = config.isRemoveDuplicates();
+		this.removeDuplicatesOnEnlist = config.isRemoveDuplicatesOnEnlist();
+		this.countDistinctArguments = config.isCountDistinctArguments();
+		this.tupleKeyStrategy = new TupleKeyStrategy(config.getKeyExtractor(), config.isIdentityKeys());
+		this.weigher = config.getWeigher();
+		this.tenantExtractor = config.getTenantExtractor();
+		this.maxWeight = config.getMaxWeight();
+		this.maxSubBatches = config.getMaxSubBatches();
+		this.minSubBatchSize = config.getMinSubBatchSize();
+		this.idleDispatch = config.isIdleDispatch();
+		this.flushPolicy = config.getFlushPolicy();
+		this.maxConcurrentBatches = config.getMaxConcurrentBatches();
+		this.leaderFollower = config.isLeaderFollower();
+		this.waitStrategy = config.getWaitStrategy();
+		this.completionExecutorService = config.getCompletionExecutorService();
+		this.completionChunkSize = config.getCompletionChunkSize();
+		this.rateLimiter = config.getRateLimit() > 0
+				? new TokenBucket(config.getRateLimit(), config.getRateLimitBurst())
+				: null;
+		this.partitionTemplateConfig = config.copy();
+		this.partitioner = config.getPartitioner();
+		this.partitionAffinity = config.isPartitionAffinity();
 		this.invocationsCounter = new AtomicLong(0);
 		this.callBackExecutionsCounter = new AtomicLong(0);
-		this.removeDuplicates = removeDuplicates;
+		this.unfinishedInvocationsCounter = new AtomicLong(0);
+		this.unfinishedInvocationsLocker = new Object();
+		this.tupleAccumulator = partitioner == null
+				? new TupleAccumulator<>(config, rateLimiter,
+						(accumulator, tupleList) -> executeBatchCallBack(accumulator, tupleList, null),
+						this::failTupleList)
+				: null;
+		this.partitionTupleAccumulatorMap = new ConcurrentHashMap<>();
+		this.partitionExecutorServiceList = new CopyOnWriteArrayList<>();
+		this.partitionExecutorServiceCounter = new AtomicInteger(0);
+		this.partitionsLocker = new Object();
+		this.closed = false;
 	}
 
 	/**
@@ -95,6 +187,12 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 	 * Update the Duration, maxsize, ExecutorService, bufferQueueSize and
 	 * removeDuplicates params of this Delayed Batch Executor <br>
 	 * <br>
+	 * The new parameters are applied atomically to the values already buffered in
+	 * the current time window: it is dispatched right away if it has already
+	 * reached the new maxSize or lasted the new Duration, otherwise it is
+	 * dispatched when the new Duration (counted from its opening) elapses. No
+	 * buffered value is dropped or delayed further by the update <br>
+	 * <br>
 	 * This method is thread safe <br>
 	 * 
 	 * @param duration         the new {@link Duration} for this Delayed Batch
@@ -114,16 +212,21 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 			int bufferQueueSize, boolean removeDuplicates) {
 		boolean validateConfig = validateConfigurationParameters(duration, maxSize, executorService, bufferQueueSize);
 		if (validateConfig) {
-			boolean parameterAreEqualToCurrentOnes = parameterAreEqualToCurrentOnes(duration, maxSize, executorService,
-					bufferQueueSize);
-			if (!parameterAreEqualToCurrentOnes) {
+			synchronized (partitionsLocker) { // so a new partition takes either the old config or the new one
 				this.maxSize = maxSize;
 				this.duration = duration;
 				this.executorService = executorService;
 				this.bufferQueueSize = bufferQueueSize;
-				this.source = createBufferedTimeoutUnicastProcessor(duration, maxSize, bufferQueueSize,
-						removeDuplicates);
-
+				this.removeDuplicates = removeDuplicates;
+				if (tupleAccumulator != null) {
+					tupleAccumulator.reconfigure(duration, maxSize, bufferQueueSize);
+				}
+				for (Map.Entry<Object, TupleAccumulator<Z>> partitionEntry : partitionTupleAccumulatorMap
+						.entrySet()) {
+					if (!isPartitionConfigured(partitionEntry.getKey())) {
+						partitionEntry.getValue().reconfigure(duration, maxSize, bufferQueueSize);
+					}
+				}
 			}
 		}
 		return validateConfig;
@@ -205,6 +308,97 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 		return removeDuplicates;
 	}
 
+	/**
+	 * The removeDuplicatesOnEnlist behaviour flag (see
+	 * {@link DelayedBatchExecutorConfig#withRemoveDuplicatesOnEnlist(boolean)})
+	 * 
+	 * @return the removeDuplicatesOnEnlist behaviour flag
+	 *
+	 */
+	public boolean isRemoveDuplicatesOnEnlist() {
+		return removeDuplicatesOnEnlist;
+	}
+
+	/**
+	 * The countDistinctArguments behaviour flag (see
+	 * {@link DelayedBatchExecutorConfig#withCountDistinctArguments(boolean)})
+	 * 
+	 * @return the countDistinctArguments behaviour flag
+	 *
+	 */
+	public boolean isCountDistinctArguments() {
+		return countDistinctArguments;
+	}
+
+	/**
+	 * The max weight of the arguments passed to each execution of the
+	 * batchCallBack (see
+	 * {@link DelayedBatchExecutorConfig#withMaxWeight(ToIntFunction, long)})
+	 * 
+	 * @return the max weight
+	 *
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * The idleDispatch behaviour flag of this Delayed Batch Executor (see
+	 * {@link DelayedBatchExecutorConfig#withIdleDispatch(boolean)})
+	 * 
+	 * @return the idleDispatch behaviour flag
+	 *
+	 */
+	public boolean isIdleDispatch() {
+		return idleDispatch;
+	}
+
+	/**
+	 * The policy deciding when the collected invocations are passed to the
+	 * batchCallBack (see
+	 * {@link DelayedBatchExecutorConfig#withFlushPolicy(FlushPolicy)})
+	 * 
+	 * @return the {@link FlushPolicy}
+	 *
+	 */
+	public FlushPolicy getFlushPolicy() {
+		return flushPolicy;
+	}
+
+	/**
+	 * The max count of batches in flight at the same time, for each partition
+	 * if there is a partitioner (see
+	 * {@link DelayedBatchExecutorConfig#withMaxConcurrentBatches(int)})
+	 * 
+	 * @return the max count of batches in flight
+	 *
+	 */
+	public int getMaxConcurrentBatches() {
+		return maxConcurrentBatches;
+	}
+
+	/**
+	 * The leaderFollower behaviour flag of this Delayed Batch Executor (see
+	 * {@link DelayedBatchExecutorConfig#withLeaderFollower(boolean)})
+	 * 
+	 * @return the leaderFollower behaviour flag
+	 *
+	 */
+	public boolean isLeaderFollower() {
+		return leaderFollower;
+	}
+
+	/**
+	 * How the threads waiting for their result wait for it (see
+	 * {@link DelayedBatchExecutorConfig#withWaitStrategy(WaitStrategy)})
+	 * 
+	 * @return the {@link WaitStrategy}
+	 *
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
 	/**
 	 * static method that creates the default Executor Service, which is a
 	 * {@link java.util.concurrent.Executors#newFixedThreadPool(int)} with the
@@ -238,10 +432,70 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 		});
 	}
 
+	/**
+	 * true if {@link #close()} or {@link #close(Duration)} has been invoked on this
+	 * Delayed Batch Executor
+	 * 
+	 * @return true if this Delayed Batch Executor is closed
+	 *
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Gracefully close this Delayed Batch Executor, waiting up to
+	 * {@link #DEFAULT_CLOSE_TIMEOUT_IN_MILLISECONDS} (see
+	 * {@link #close(Duration)})
+	 *
+	 */
 	@Override
 	public void close() {
-		if (defaultExecutorServiceCreated && !executorService.isShutdown()) {
-			executorService.shutdown();
+		close(Duration.ofMillis(DEFAULT_CLOSE_TIMEOUT_IN_MILLISECONDS));
+	}
+
+	/**
+	 * Gracefully close this Delayed Batch Executor: <br>
+	 * <br>
+	 * -no new invocations of the execute*(...) methods are accepted, they will
+	 * throw a {@link RejectedExecutionException} <br>
+	 * -the values buffered so far are dispatched to the batchCallBack immediately,
+	 * without waiting for the time window to finish <br>
+	 * -the invoking thread waits until all of the pending invocations have been
+	 * given their result or the timeout elapses <br>
+	 * -the default ExecutorService (if it was not provided) is shut down <br>
+	 * <br>
+	 * This method is thread safe <br>
+	 * 
+	 * @param timeout the max time to wait for the pending invocations to finish
+	 * @return true if all of the pending invocations finished before the timeout
+	 *         elapsed, false otherwise
+	 *
+	 */
+	public boolean close(Duration timeout) {
+		long deadlineNanos = System.nanoTime() + timeout.toNanos();
+		List<TupleAccumulator<Z>> accumulatorList;
+		synchronized (partitionsLocker) {
+			closed = true;
+			accumulatorList = getTupleAccumulators(); // no partition is created from now on
+		}
+		for (TupleAccumulator<Z> accumulator : accumulatorList) {
+			accumulator.close(); // dispatches the values buffered in the current time window
+		}
+		try {
+			boolean finished = awaitUnfinishedInvocations(deadlineNanos);
+			for (ExecutorService partitionExecutorService : partitionExecutorServiceList) {
+				partitionExecutorService.shutdown();
+			}
+			if (defaultExecutorServiceCreated && !executorService.isShutdown()) {
+				executorService.shutdown();
+				finished = executorService.awaitTermination(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)
+						&& finished;
+			}
+			return finished;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
 		}
 	}
 
@@ -252,74 +506,374 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 	}
 
 	protected void enlistTuple(Tuple<Z> param) {
+		prepareTuple(param);
+		TupleAccumulator<Z> paramTupleAccumulator = getTupleAccumulator(param); // the partitioner may throw
+		unfinishedInvocationsCounter.incrementAndGet();
+		try {
+			paramTupleAccumulator.add(param);
+		} catch (RejectedExecutionException ree) {
+			finishInvocations(1);
+			throw ree;
+		}
 		invocationsCounter.incrementAndGet();
-		source.onNext(param);
 	}
 
-	protected abstract List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList);
+	protected void enlistTupleList(List<Tuple<Z>> tupleList) {
+		for (Tuple<Z> tuple : tupleList) {
+			prepareTuple(tuple);
+		}
+		Map<TupleAccumulator<Z>, List<Tuple<Z>>> tupleListByPartition = partitioner == null ? null
+				: groupByPartition(tupleList); // the partitioner may throw
+		unfinishedInvocationsCounter.addAndGet(tupleList.size());
+		int enlisted = 0;
+		try {
+			if (tupleListByPartition == null) {
+				tupleAccumulator.addAll(tupleList);
+				enlisted = tupleList.size();
+			} else {
+				for (Map.Entry<TupleAccumulator<Z>, List<Tuple<Z>>> partitionEntry : tupleListByPartition
+						.entrySet()) {
+					partitionEntry.getKey().addAll(partitionEntry.getValue());
+					enlisted += partitionEntry.getValue().size();
+				}
+			}
+		} catch (RejectedExecutionException ree) {
+			finishInvocations(tupleList.size() - enlisted); // the ones already enlisted in other partitions go on
+			invocationsCounter.addAndGet(enlisted);
+			throw ree;
+		}
+		invocationsCounter.addAndGet(tupleList.size());
+	}
+
+	private TupleAccumulator<Z> getTupleAccumulator(Tuple<Z> tuple) {
+		if (partitioner == null) {
+			return tupleAccumulator;
+		}
+		Object partition = partitioner.apply(tuple.getArgumentsAsList());
+		Object partitionKey = partition == null ? NULL_PARTITION : partition;
+		TupleAccumulator<Z> partitionTupleAccumulator = partitionTupleAccumulatorMap.get(partitionKey);
+		if (partitionTupleAccumulator != null) {
+			return partitionTupleAccumulator;
+		}
+		synchronized (partitionsLocker) {
+			if (closed) {
+				throw new RejectedExecutionException("This Delayed Batch Executor is closed");
+			}
+			return partitionTupleAccumulatorMap.computeIfAbsent(partitionKey, this::createPartitionTupleAccumulator);
+		}
+	}
+
+	private Map<TupleAccumulator<Z>, List<Tuple<Z>>> groupByPartition(List<Tuple<Z>> tupleList) {
+		Map<TupleAccumulator<Z>, List<Tuple<Z>>> tupleListByPartition = new LinkedHashMap<>();
+		for (Tuple<Z> tuple : tupleList) {
+			tupleListByPartition.computeIfAbsent(getTupleAccumulator(tuple), accumulator -> new ArrayList<>())
+					.add(tuple);
+		}
+		return tupleListByPartition;
+	}
+
+	/**
+	 * the partitions without their own configuration take the current duration,
+	 * maxSize and bufferQueueSize of this Delayed Batch Executor. It is invoked
+	 * holding the partitionsLocker, so this Delayed Batch Executor is not closed
+	 * and its config is not updated meanwhile
+	 */
+	private TupleAccumulator<Z> createPartitionTupleAccumulator(Object partition) {
+		ExecutorService partitionExecutorService = partitionAffinity ? createPartitionExecutorService() : null;
+		TupleAccumulator<Z> partitionTupleAccumulator = new TupleAccumulator<>(
+				partitionTemplateConfig.getPartitionConfig(partition), rateLimiter,
+				(accumulator, tupleList) -> executeBatchCallBack(accumulator, tupleList, partitionExecutorService),
+				this::failTupleList);
+		if (!isPartitionConfigured(partition)) {
+			partitionTupleAccumulator.reconfigure(duration, maxSize, bufferQueueSize);
+		}
+		return partitionTupleAccumulator;
+	}
+
+	private ExecutorService createPartitionExecutorService() {
+		ExecutorService partitionExecutorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable,
+				DEFAULT_FIXED_THREAD_NAME_PREFIX + "partition-" + partitionExecutorServiceCounter.incrementAndGet()));
+		partitionExecutorServiceList.add(partitionExecutorService);
+		return partitionExecutorService;
+	}
+
+	private boolean isPartitionConfigured(Object partition) {
+		return partitionTemplateConfig.getPartitionConfigMap().containsKey(partition);
+	}
+
+	private List<TupleAccumulator<Z>> getTupleAccumulators() {
+		if (tupleAccumulator != null) {
+			return Collections.singletonList(tupleAccumulator);
+		}
+		return new ArrayList<>(partitionTupleAccumulatorMap.values());
+	}
+
+	protected TupleListFuture<Z> enlistTupleListFuture(List<?>... argLists) {
+		int size = argLists[0].size();
+		List<Iterator<?>> iteratorList = new ArrayList<>(argLists.length);
+		for (List<?> argList : argLists) {
+			if (argList.size() != size) {
+				throw new IllegalArgumentException("All of the lists of arguments must have the same size");
+			}
+			iteratorList.add(argList.iterator());
+		}
+		List<Object[]> argsAsArrayList = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			Object[] argsAsArray = new Object[argLists.length];
+			for (int argPosition = 0; argPosition < argLists.length; argPosition++) {
+				argsAsArray[argPosition] = iteratorList.get(argPosition).next();
+			}
+			argsAsArrayList.add(argsAsArray);
+		}
+		TupleListFuture<Z> tupleListFuture = new TupleListFuture<>(argsAsArrayList);
+		if (size > 0) {
+			enlistTupleList(tupleListFuture.getTupleList());
+		}
+		return tupleListFuture;
+	}
+
+	/**
+	 * the tuple is enlisted when the Mono is subscribed, being shared by the
+	 * concurrent subscribers and cancelled when all of them cancel
+	 */
+	protected Mono<Z> enlistTupleMono(Object... argsAsArray) {
+		return Mono.<Z>create(monoSink -> {
+			TupleMono<Z> tupleMono = new TupleMono<>(monoSink, argsAsArray);
+			monoSink.onCancel(tupleMono::cancel);
+			try {
+				enlistTuple(tupleMono);
+			} catch (RuntimeException re) {
+				monoSink.error(re);
+			}
+		}).flux().share().singleOrEmpty();
+	}
+
+	protected <E> Flux<Z> enlistPublisher(Publisher<E> publisher, Function<E, Object[]> argumentsMapper,
+			boolean preserveOrder) {
+		return Flux.create(fluxSink -> {
+			TupleFluxSubscriber<E, Z> tupleFluxSubscriber = new TupleFluxSubscriber<>(fluxSink, this::enlistTupleList,
+					argumentsMapper, bufferQueueSize, maxSize, preserveOrder);
+			fluxSink.onDispose(tupleFluxSubscriber::cancel);
+			publisher.subscribe(tupleFluxSubscriber);
+			fluxSink.onRequest(requested -> tupleFluxSubscriber.requestUpstream());
+		});
+	}
+
+	protected abstract void invokeBatchCallBack(List<List<Object>> transposedTupleList,
+			BatchResultSink<Z> resultSink);
 
-	private void invokeBatchCallBackAndContinue(List<Tuple<Z>> tupleList) {
-		List<Z> rawResultList = null;
-		List<Z> resultFromCallBack;
-		RuntimeException runtimeException = null;
+	private void invokeBatchCallBackAndContinue(List<Tuple<Z>> tupleList, Runnable afterContinue) {
+		TupleListResultSink<Z> resultSink = new TupleListResultSink<>(tupleList, tupleKeyStrategy,
+				completionExecutorService, completionChunkSize, afterContinue);
 		try {
 			List<List<Object>> transposedTupleList = TupleListTransposer.transposeValuesAsListOfList(tupleList);
-			rawResultList = getResultListFromBatchCallBack(transposedTupleList);
+			invokeBatchCallBack(transposedTupleList, resultSink);
 		} catch (RuntimeException re) {
-			runtimeException = re;
-		} finally {
-			resultFromCallBack = resizeListFillingWithNullsIfNecessary(rawResultList, tupleList.size());
+			resultSink.error(re);
 		}
+	}
 
-		for (int indexTuple = 0; indexTuple < tupleList.size(); indexTuple++) {
-			Tuple<Z> tuple = tupleList.get(indexTuple);
-			tuple.setResult(resultFromCallBack.get(indexTuple));
-			tuple.setRuntimeException(runtimeException);
-			tuple.continueIfIsWaiting();
+	/**
+	 * the key, the weight and the tenant are computed by the invoking thread, out
+	 * of the lock of the time window. The waitStrategy is set to the tuples with
+	 * a waiting thread
+	 */
+	@SuppressWarnings("unchecked")
+	private void prepareTuple(Tuple<Z> tuple) {
+		if (!tupleKeyStrategy.isAllArguments()) {
+			tuple.setKey(tupleKeyStrategy.getKeyOfArguments(tuple.getArgumentsAsList()));
+		}
+		if (weigher != null) {
+			int weight = weigher.applyAsInt(tuple.getArgumentsAsList());
+			if (weight < 0) {
+				throw new IllegalArgumentException("The weight of the arguments can not be negative: " + weight);
+			}
+			tuple.setWeight(weight);
+		}
+		if (tenantExtractor != null) {
+			tuple.setTenant(tenantExtractor.apply(tuple.getArgumentsAsList()));
+		}
+		if (waitStrategy != WaitStrategy.PARK && tuple instanceof TupleFuture) {
+			((TupleFuture<Z>) tuple).setWaitStrategy(waitStrategy);
 		}
 	}
 
-	private void assignValuesToDuplicatesAndContinue(TupleListDuplicatedFinder<Z> tupleListDuplicatedFinder) {
-		Map<Integer, Integer> duplicatedMapIndex = tupleListDuplicatedFinder.getDuplicatedMapIndex();
-		List<Tuple<Z>> allTupleList = tupleListDuplicatedFinder.getAllTupleList();
-		for (Integer duplicatedIndex : duplicatedMapIndex.keySet()) {
-			Tuple<Z> duplicatedTuple = allTupleList.get(duplicatedIndex);
-			Tuple<Z> uniqueTuple = allTupleList.get(duplicatedMapIndex.get(duplicatedIndex));
-			duplicatedTuple.copyResultAndRuntimeExceptionFromTuple(uniqueTuple);
-			duplicatedTuple.continueIfIsWaiting();
+	private void finishInvocations(int invocations) {
+		if (unfinishedInvocationsCounter.addAndGet(-invocations) == 0) {
+			synchronized (unfinishedInvocationsLocker) {
+				unfinishedInvocationsLocker.notifyAll();
+			}
 		}
 	}
 
-	private void executeBatchCallBackRemovingDuplicates(List<Tuple<Z>> tupleList) {
-		callBackExecutionsCounter.incrementAndGet();
-		CompletableFuture.runAsync(() -> {
-			TupleListDuplicatedFinder<Z> tupleListDuplicatedFinder = new TupleListDuplicatedFinder<>(tupleList);
-			List<Tuple<Z>> tupleListUnique = tupleListDuplicatedFinder.getTupleListUnique();
-			invokeBatchCallBackAndContinue(tupleListUnique);
-			assignValuesToDuplicatesAndContinue(tupleListDuplicatedFinder);
-		}, this.executorService);
+	private boolean awaitUnfinishedInvocations(long deadlineNanos) throws InterruptedException {
+		synchronized (unfinishedInvocationsLocker) {
+			while (unfinishedInvocationsCounter.get() > 0) {
+				long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadlineNanos));
+				if (remainingMillis <= 0) {
+					return false;
+				}
+				unfinishedInvocationsLocker.wait(remainingMillis);
+			}
+		}
+		return true;
+	}
+
+	private long remainingNanos(long deadlineNanos) {
+		return Math.max(0L, deadlineNanos - System.nanoTime());
 	}
 
-	private void executeBatchCallBackNotRemovingDuplicates(List<Tuple<Z>> tupleList) {
+	/**
+	 * the batch is executed by the given partitionExecutorService if there is
+	 * partition affinity, otherwise by one of its blocked invoking threads if
+	 * leaderFollower, otherwise by the executorService
+	 */
+	private void executeBatchCallBack(TupleAccumulator<Z> batchTupleAccumulator, List<Tuple<Z>> tupleList,
+			ExecutorService partitionExecutorService) {
+		boolean removeDuplicatesInBatch = removeDuplicates;
+		ExecutorService batchExecutorService = partitionExecutorService != null ? partitionExecutorService
+				: this.executorService;
+		int invocations = countInvocations(tupleList);
+		long deadlineNanos = batchTupleAccumulator.getDeadlineNanos(tupleList);
+		Runnable batchFinisher = () -> {
+			batchTupleAccumulator.finishBatch();
+			finishInvocations(invocations);
+		};
+		BatchRunnable batchRunnable = new BatchRunnable(deadlineNanos, batchFinishListener -> {
+			batchTupleAccumulator.release(tupleList);
+			List<Tuple<Z>> tupleListNotCancelled = removeCancelledTuples(tupleList);
+			List<Tuple<Z>> tupleListToInvoke = removeDuplicatesInBatch ? removeDuplicates(tupleListNotCancelled)
+					: tupleListNotCancelled;
+			if (tupleListToInvoke.isEmpty()) {
+				callBackExecutionsCounter.decrementAndGet(); // all of them were cancelled
+				batchFinisher.run();
+				batchFinishListener.run();
+			} else if (tupleListToInvoke.size() >= 2 * minSubBatchSize && maxSubBatches > 1) {
+				finishInvocations(invocations - countInvocations(tupleListToInvoke)); // the cancelled ones
+				invokeBatchCallBackInSubBatches(batchTupleAccumulator, tupleListToInvoke, batchExecutorService,
+						deadlineNanos, batchFinishListener);
+			} else {
+				invokeBatchCallBackAndContinue(tupleListToInvoke, () -> {
+					batchFinisher.run();
+					batchFinishListener.run();
+				});
+			}
+		});
 		callBackExecutionsCounter.incrementAndGet();
-		CompletableFuture.runAsync(() -> {
-			invokeBatchCallBackAndContinue(tupleList);
-		}, this.executorService);
+		if (leaderFollower && partitionExecutorService == null && handToLeader(tupleList, batchRunnable)) {
+			return;
+		}
+		try {
+			batchExecutorService.execute(batchRunnable);
+		} catch (RuntimeException re) { // usually a RejectedExecutionException
+			batchTupleAccumulator.release(tupleList);
+			new TupleListResultSink<>(tupleList, tupleKeyStrategy, batchFinisher).error(re);
+		}
 	}
 
-	private UnicastProcessor<Tuple<Z>> createBufferedTimeoutUnicastProcessor(Duration duration, int maxSize,
-			int bufferQueueSize, boolean removeDuplicates) {
-		Queue<Tuple<Z>> blockingQueue = new ArrayBlockingQueue<>(bufferQueueSize); // =>
-																					// https://github.com/reactor/reactor-core/issues/469#issuecomment-286040390
-		UnicastProcessor<Tuple<Z>> newSource = UnicastProcessor.create(blockingQueue);
-		if (removeDuplicates) {
-			newSource.publish().autoConnect().bufferTimeout(maxSize, duration)
-					.subscribe(this::executeBatchCallBackRemovingDuplicates);
-		} else {
-			newSource.publish().autoConnect().bufferTimeout(maxSize, duration)
-					.subscribe(this::executeBatchCallBackNotRemovingDuplicates);
+	/**
+	 * the tuples are given the exception without executing the batchCallBack
+	 */
+	private void failTupleList(List<Tuple<Z>> tupleList, RuntimeException runtimeException) {
+		int invocations = countInvocations(tupleList);
+		new TupleListResultSink<>(tupleList, tupleKeyStrategy, () -> finishInvocations(invocations))
+				.error(runtimeException);
+	}
+
+	/**
+	 * the batch is handed to the first tuple of the batch whose invoking thread
+	 * is blocked waiting for its result and has not given up waiting. False if
+	 * there is none
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean handToLeader(List<Tuple<Z>> tupleList, Runnable batchRunnable) {
+		for (Tuple<Z> tuple : tupleList) {
+			if (tuple instanceof TupleBlocking && ((TupleBlocking<Z>) tuple).lead(batchRunnable)) {
+				return true;
+			}
 		}
-		return newSource;
+		return false;
+	}
+
+	/**
+	 * the first sub-batch is invoked by the current thread (so it is given the
+	 * finish listener of the batch) and the rest of them concurrently by the
+	 * ExecutorService. The batch is finished when all of them have finished
+	 */
+	private void invokeBatchCallBackInSubBatches(TupleAccumulator<Z> batchTupleAccumulator,
+			List<Tuple<Z>> tupleList, ExecutorService batchExecutorService, long deadlineNanos,
+			Runnable batchFinishListener) {
+		int subBatches = Math.min(maxSubBatches, tupleList.size() / minSubBatchSize);
+		List<List<Tuple<Z>>> subTupleLists = TupleListSplitter.splitByWeight(tupleList, subBatches);
+		AtomicInteger unfinishedSubBatches = new AtomicInteger(subTupleLists.size());
+		callBackExecutionsCounter.addAndGet(subTupleLists.size() - 1);
+		for (int index = subTupleLists.size() - 1; index >= 0; index--) {
+			List<Tuple<Z>> subTupleList = subTupleLists.get(index);
+			int subBatchInvocations = countInvocations(subTupleList);
+			BatchRunnable subBatchRunnable = new BatchRunnable(deadlineNanos,
+					subBatchFinishListener -> invokeBatchCallBackAndContinue(subTupleList, () -> {
+						if (unfinishedSubBatches.decrementAndGet() == 0) {
+							batchTupleAccumulator.finishBatch();
+						}
+						finishInvocations(subBatchInvocations);
+						subBatchFinishListener.run();
+					}));
+			if (index == 0) {
+				subBatchRunnable.setFinishListener(batchFinishListener);
+				subBatchRunnable.run();
+			} else {
+				try {
+					batchExecutorService.execute(subBatchRunnable);
+				} catch (RejectedExecutionException ree) {
+					subBatchRunnable.run(); // the sub-batch is not lost, though it is not concurrent
+				}
+			}
+		}
+	}
+
+	/**
+	 * the invocations given their result by the tuples, including the duplicated
+	 * ones removed when they were enlisted
+	 */
+	private int countInvocations(List<Tuple<Z>> tupleList) {
+		int invocations = 0;
+		for (Tuple<Z> tuple : tupleList) {
+			invocations += tuple.getInvocationsCount();
+		}
+		return invocations;
+	}
+
+	/**
+	 * the tuples cancelled before the batchCallBack is executed are not passed to
+	 * it, unless other invocations are attached to them
+	 */
+	private List<Tuple<Z>> removeCancelledTuples(List<Tuple<Z>> tupleList) {
+		List<Tuple<Z>> tupleListNotCancelled = null;
+		for (int index = 0; index < tupleList.size(); index++) {
+			Tuple<Z> tuple = tupleList.get(index);
+			boolean cancelled = tuple.isCancelled() && tuple.getInvocationsCount() == 1;
+			if (cancelled && tupleListNotCancelled == null) {
+				tupleListNotCancelled = new ArrayList<>(tupleList.subList(0, index)); // copied only if needed
+			} else if (!cancelled && tupleListNotCancelled != null) {
+				tupleListNotCancelled.add(tuple);
+			}
+		}
+		return tupleListNotCancelled == null ? tupleList : tupleListNotCancelled;
+	}
+
+	/**
+	 * the duplicated tuples are attached to the unique ones, so they are given
+	 * their result
+	 */
+	private List<Tuple<Z>> removeDuplicates(List<Tuple<Z>> tupleList) {
+		TupleListDuplicatedFinder<Z> tupleListDuplicatedFinder = new TupleListDuplicatedFinder<>(tupleList);
+		Map<Integer, Integer> duplicatedMapIndex = tupleListDuplicatedFinder.getDuplicatedMapIndex();
+		for (Map.Entry<Integer, Integer> duplicatedEntry : duplicatedMapIndex.entrySet()) {
+			Tuple<Z> duplicatedTuple = tupleList.get(duplicatedEntry.getKey());
+			Tuple<Z> uniqueTuple = tupleList.get(duplicatedEntry.getValue());
+			uniqueTuple.addDuplicatedTuple(duplicatedTuple);
+		}
+		return tupleListDuplicatedFinder.getTupleListUnique();
 	}
 
 	private boolean validateConfigurationParameters(Duration duration, int maxSize, ExecutorService executorService,
@@ -332,25 +886,13 @@ abstract class DelayedBatchExecutor<Z> implements AutoCloseable {
 		return sizeValidation && durationValidation && executorServiceValidation && bufferQueueSizeValidation;
 	}
 
-	private boolean parameterAreEqualToCurrentOnes(Duration duration, int size, ExecutorService executorService,
-			int bufferQueueSize) {
-		boolean sameDuration = this.duration != null && this.duration.compareTo(duration) == 0;
-		boolean sameSize = (this.maxSize == size);
-		boolean sameExecutorService = this.executorService != null && this.executorService == executorService; // same
-																												// reference
-																												// is
-																												// enough
-		boolean sameBufferQueueSize = (this.bufferQueueSize == bufferQueueSize);
-		return sameDuration && sameSize && sameExecutorService && sameBufferQueueSize;
-	}
-
-	private <E> List<E> resizeListFillingWithNullsIfNecessary(List<E> list, int desiredSize) {
-		if (list == null) {
-			list = Collections.nCopies(desiredSize, null);
-		} else if (list.size() < desiredSize) {
-			list = new ArrayList<>(list); // make it mutable in case it isn't
-			list.addAll(Collections.nCopies(desiredSize - list.size(), null));
-		}
-		return list;
+	private boolean validatePartitionConfigs(DelayedBatchExecutorConfig config, ExecutorService executorService) {
+		for (DelayedBatchExecutorConfig partitionConfig : config.getPartitionConfigMap().values()) {
+			if (!validateConfigurationParameters(partitionConfig.getDuration(), partitionConfig.getMaxSize(),
+					executorService, 1) || partitionConfig.getMaxConcurrentBatches() < 1) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
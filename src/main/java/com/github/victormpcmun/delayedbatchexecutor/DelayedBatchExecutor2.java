@@ -1,9 +1,13 @@
 package com.github.victormpcmun.delayedbatchexecutor;
 
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -92,7 +96,69 @@ public class DelayedBatchExecutor2<Z, A> extends DelayedBatchExecutor<Z> {
 		List<Z> apply(List<A> firstParam);
 	}
 
-	private final BatchCallBack2<Z, A> batchCallBack;
+	/**
+	 * Receive as argument a List of type A and returns a
+	 * {@link CompletionStage} that will complete with a List of type Z. It can
+	 * be implemented as a lambda expression or method reference <br>
+	 * The batchCallBack method does not need to block a thread of the
+	 * ExecutorService until the result is available, so it is suitable for
+	 * asynchronous drivers (i.e. R2DBC or asynchronous HTTP clients). The
+	 * invocations of the execute*(...) methods are given their result as soon
+	 * as the returned {@link CompletionStage} completes. A
+	 * <a href= "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html">Mono</a>
+	 * can be returned by means of its method toFuture() <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor2<String,Integer> dbe = DelayedBatchExecutor2.createAsync(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * CompletionStage<List<String>> myBatchCallBack(List<Integer> arg1List) {
+	 *      return myAsyncRepository.findAll(...).collectList().toFuture();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface AsyncBatchCallBack2<Z, A> {
+		CompletionStage<List<Z>> apply(List<A> firstParam);
+	}
+
+	/**
+	 * Receive as argument a List of type A and a {@link BatchResultSink} of
+	 * type Z where the result for each position of the lists is emitted as soon
+	 * as it is available. It can be implemented as a lambda expression or
+	 * method reference <br>
+	 * The invocations of the execute*(...) methods are given their result as
+	 * soon as it is emitted, without waiting for the whole batch, which avoids
+	 * building the complete list of results in memory for large batches <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor2<String,Integer> dbe = DelayedBatchExecutor2.createStreaming(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * void myBatchCallBack(List<Integer> arg1List, BatchResultSink<String> resultSink) {
+	 *      try (MyCursor cursor = ...) {
+	 *          while (cursor.next()) {
+	 *              resultSink.emit(cursor.getIndex(), cursor.getValue());
+	 *          }
+	 *      }
+	 *      resultSink.complete();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface StreamingBatchCallBack2<Z, A> {
+		void apply(List<A> firstParam, BatchResultSink<Z> resultSink);
+	}
+
+	private final StreamingBatchCallBack2<Z, A> batchCallBack;
 
 	/**
 	 * Factory method to create an instance of a Delayed Batch Executor for one
@@ -121,7 +187,8 @@ public class DelayedBatchExecutor2<Z, A> extends DelayedBatchExecutor<Z> {
 
 	public static <Z, A> DelayedBatchExecutor2<Z, A> create(Duration duration, int size,
 			BatchCallBack2<Z, A> batchCallback2) {
-		return new DelayedBatchExecutor2<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true, batchCallback2);
+		return new DelayedBatchExecutor2<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				toStreamingBatchCallBack(batchCallback2));
 	}
 
 	/**
@@ -152,11 +219,223 @@ public class DelayedBatchExecutor2<Z, A> extends DelayedBatchExecutor<Z> {
 			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
 			BatchCallBack2<Z, A> batchCallback2) {
 		return new DelayedBatchExecutor2<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
-				batchCallback2);
+				toStreamingBatchCallBack(batchCallback2));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack returns a
+	 * {@link CompletionStage}. Similar to
+	 * {@link DelayedBatchExecutor2#createAsync(Duration, int, ExecutorService, int, boolean, AsyncBatchCallBack2)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param asyncBatchCallback2 the method reference or lambda expression that
+	 *                            receives a list of type A and returns a
+	 *                            {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createAsync(Duration duration, int size,
+			AsyncBatchCallBack2<Z, A> asyncBatchCallback2) {
+		return new DelayedBatchExecutor2<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				asyncToStreamingBatchCallBack(asyncBatchCallback2));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack returns a
+	 * {@link CompletionStage} <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param executorService     to define the pool of threads to invoke the
+	 *                            batchCallBack method in asynchronous mode
+	 * @param bufferQueueSize     max size of the internal queue to buffer
+	 *                            values
+	 * @param removeDuplicates    if true then duplicated arguments from
+	 *                            execute*(...) methods are not passed to the
+	 *                            batchCallBack (considering same
+	 *                            {@link Object#hashCode()} and being
+	 *                            {@link Object#equals(Object)})
+	 * @param asyncBatchCallback2 the method reference or lambda expression that
+	 *                            receives a list of type A and returns a
+	 *                            {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createAsync(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			AsyncBatchCallBack2<Z, A> asyncBatchCallback2) {
+		return new DelayedBatchExecutor2<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				asyncToStreamingBatchCallBack(asyncBatchCallback2));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack emits each
+	 * result to a {@link BatchResultSink} as soon as it is available. Similar
+	 * to
+	 * {@link DelayedBatchExecutor2#createStreaming(Duration, int, ExecutorService, int, boolean, StreamingBatchCallBack2)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param streamingBatchCallback2 the method reference or lambda expression
+	 *                                that receives a list of type A and a
+	 *                                {@link BatchResultSink} of type Z (see
+	 *                                {@link StreamingBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createStreaming(Duration duration, int size,
+			StreamingBatchCallBack2<Z, A> streamingBatchCallback2) {
+		return new DelayedBatchExecutor2<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				streamingBatchCallback2);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack emits each
+	 * result to a {@link BatchResultSink} as soon as it is available <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param executorService         to define the pool of threads to invoke
+	 *                                the batchCallBack method in asynchronous
+	 *                                mode
+	 * @param bufferQueueSize         max size of the internal queue to buffer
+	 *                                values
+	 * @param removeDuplicates        if true then duplicated arguments from
+	 *                                execute*(...) methods are not passed to
+	 *                                the batchCallBack (considering same
+	 *                                {@link Object#hashCode()} and being
+	 *                                {@link Object#equals(Object)})
+	 * @param streamingBatchCallback2 the method reference or lambda expression
+	 *                                that receives a list of type A and a
+	 *                                {@link BatchResultSink} of type Z (see
+	 *                                {@link StreamingBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createStreaming(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			StreamingBatchCallBack2<Z, A> streamingBatchCallback2) {
+		return new DelayedBatchExecutor2<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				streamingBatchCallback2);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, given its configuration parameters
+	 * (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>            the return type
+	 * @param <A>            the type of the argument
+	 * @param config         the configuration parameters of the Delayed Batch
+	 *                       Executor
+	 * @param batchCallback2 the method reference or lambda expression that
+	 *                       receives a list of type A and returns a list of
+	 *                       Type Z (see {@link BatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> create(DelayedBatchExecutorConfig config,
+			BatchCallBack2<Z, A> batchCallback2) {
+		return new DelayedBatchExecutor2<>(config, toStreamingBatchCallBack(batchCallback2));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack returns a
+	 * {@link CompletionStage}, given its configuration parameters (see
+	 * {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the argument
+	 * @param config              the configuration parameters of the Delayed
+	 *                            Batch Executor
+	 * @param asyncBatchCallback2 the method reference or lambda expression that
+	 *                            receives a list of type A and returns a
+	 *                            {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createAsync(DelayedBatchExecutorConfig config,
+			AsyncBatchCallBack2<Z, A> asyncBatchCallback2) {
+		return new DelayedBatchExecutor2<>(config, asyncToStreamingBatchCallBack(asyncBatchCallback2));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for one
+	 * argument of type A and return type Z, whose batchCallBack emits each
+	 * result to a {@link BatchResultSink} as soon as it is available, given its
+	 * configuration parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the argument
+	 * @param config                  the configuration parameters of the
+	 *                                Delayed Batch Executor
+	 * @param streamingBatchCallback2 the method reference or lambda expression
+	 *                                that receives a list of type A and a
+	 *                                {@link BatchResultSink} of type Z (see
+	 *                                {@link StreamingBatchCallBack2})
+	 * @return an instance of {@link DelayedBatchExecutor2}
+	 *
+	 */
+
+	public static <Z, A> DelayedBatchExecutor2<Z, A> createStreaming(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack2<Z, A> streamingBatchCallback2) {
+		return new DelayedBatchExecutor2<>(config, streamingBatchCallback2);
+	}
+
+	private DelayedBatchExecutor2(DelayedBatchExecutorConfig config, StreamingBatchCallBack2<Z, A> batchCallBack) {
+		super(config);
+		this.batchCallBack = batchCallBack;
 	}
 
 	private DelayedBatchExecutor2(Duration duration, int size, ExecutorService executorService, int bufferQueueSize,
-			boolean removeDuplicates, BatchCallBack2<Z, A> batchCallBack) {
+			boolean removeDuplicates, StreamingBatchCallBack2<Z, A> batchCallBack) {
 		super(duration, size, executorService, bufferQueueSize, removeDuplicates);
 		this.batchCallBack = batchCallBack;
 	}
@@ -224,8 +503,11 @@ public class DelayedBatchExecutor2<Z, A> extends DelayedBatchExecutor<Z> {
 	 * The invoking thread is not blocked <br>
 	 * <br>
 	 * <img src="{@docRoot}/doc-files/mono.svg" alt="mono"> <br>
-	 * It will throw a {@link RuntimeException} if the internal buffer Queue of this
-	 * Delayed Batch Executor is full. <br>
+	 * The argument is enlisted when the Mono is subscribed, only once for the
+	 * subscribers at the same time, and it is not passed to the batchCallBack if
+	 * all of them cancel their subscription before it is executed. <br>
+	 * The Mono fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * if the internal buffer Queue of this Delayed Batch Executor is full. <br>
 	 * If a {@link RuntimeException} is thrown inside of the {@link BatchCallBack2
 	 * }, then it will be the propagated as any {@link RuntimeException } thrown
 	 * from <a href=
@@ -242,15 +524,130 @@ public class DelayedBatchExecutor2<Z, A> extends DelayedBatchExecutor<Z> {
 	 *
 	 */
 	public Mono<Z> executeAsMono(A arg1) {
-		TupleMono<Z> tupleMono = new TupleMono<>(arg1);
-		enlistTuple(tupleMono);
-		Mono<Z> mono = tupleMono.getMono();
-		return mono;
+		return enlistTupleMono(arg1);
+	}
+
+	/**
+	 * Return the list of results of type Z (blocking the thread until all of
+	 * them are available), being the result at each position the one obtained
+	 * from the batchCallBack method for the argument at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * It will throw any {@link RuntimeException} thrown inside of the
+	 * {@link BatchCallBack2 } <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * 
+	 * @param arg1List values of the argument of type A defined for this Delayed
+	 *                 Batch Executor
+	 * @return the list of results of type Z, in the same order as the arguments
+	 *
+	 */
+	public List<Z> executeAll(List<A> arg1List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List);
+		List<Z> valueList = tupleListFuture.getValueBlocking();
+		return valueList;
+	}
+
+	/**
+	 * Return a {@link Future } containing the list of results of type Z, being
+	 * the result at each position the one obtained from the batchCallBack
+	 * method for the argument at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * The invoking thread is not blocked. The results will be available by
+	 * invoking method {@link Future#get()} of the {@link Future }, once all of
+	 * them are available <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * If a {@link RuntimeException} is thrown inside of the
+	 * {@link BatchCallBack2 } for any of the arguments, then it will be the
+	 * cause of the checked Exception {@link ExecutionException} thrown by
+	 * {@link Future#get()} as per contract of {@link Future#get()} <br>
+	 * <br>
+	 * 
+	 * @param arg1List values of the argument of type A defined for this Delayed
+	 *                 Batch Executor
+	 * @return a {@link Future } for the list of results of type Z
+	 *
+	 */
+	public Future<List<Z>> executeAllAsFuture(List<A> arg1List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List);
+		Future<List<Z>> future = tupleListFuture.getFuture();
+		return future;
+	}
+
+	/**
+	 * Return a <a href=
+	 * "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html">Flux</a>
+	 * publishing the values obtained from the batchCallBack method for each of
+	 * the elements of the given Publisher, in the same order as the elements.
+	 * Same as {@link #executeMany(Publisher, boolean)} with preserveOrder true
+	 * <br>
+	 * 
+	 * @param arg1Publisher the Publisher of the values of the argument of type A
+	 *                      defined for this Delayed Batch Executor
+	 * @return a <a href=
+	 *         "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html">Flux</a>
+	 *         for the results of type Z
+	 *
+	 */
+	public Flux<Z> executeMany(Publisher<A> arg1Publisher) {
+		return executeMany(arg1Publisher, true);
+	}
+
+	/**
+	 * Return a <a href=
+	 * "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html">Flux</a>
+	 * publishing the values obtained from the batchCallBack method for each of
+	 * the elements of the given Publisher <br>
+	 * <br>
+	 * The invoking thread is not blocked. The elements are requested from the
+	 * Publisher as the downstream demands results, with no more than
+	 * bufferQueueSize of them pending at any time, and the elements received
+	 * together are enlisted in the time windows in bulk (much cheaper than
+	 * invoking {@link #executeAsMono(Object)} for each element) <br>
+	 * <br>
+	 * null results are not published. If a {@link RuntimeException} is thrown
+	 * inside of the {@link BatchCallBack2 } or the internal buffer Queue of this
+	 * Delayed Batch Executor is full, then the Flux terminates with that error
+	 * and the Publisher is cancelled <br>
+	 * <br>
+	 * 
+	 * @param arg1Publisher the Publisher of the values of the argument of type A
+	 *                      defined for this Delayed Batch Executor
+	 * @param preserveOrder if true the results are published in the same order
+	 *                      as the elements of the Publisher, otherwise as soon as
+	 *                      they are available
+	 * @return a <a href=
+	 *         "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html">Flux</a>
+	 *         for the results of type Z
+	 *
+	 */
+	public Flux<Z> executeMany(Publisher<A> arg1Publisher, boolean preserveOrder) {
+		return enlistPublisher(arg1Publisher, arg1 -> new Object[] { arg1 }, preserveOrder);
+	}
+
+	private static <Z, A> StreamingBatchCallBack2<Z, A> toStreamingBatchCallBack(BatchCallBack2<Z, A> batchCallBack) {
+		return (firstParam, resultSink) -> resultSink.completeWith(batchCallBack.apply(firstParam));
+	}
+
+	private static <Z, A> StreamingBatchCallBack2<Z, A> asyncToStreamingBatchCallBack(
+			AsyncBatchCallBack2<Z, A> batchCallBack) {
+		return (firstParam, resultSink) -> resultSink.completeWith(batchCallBack.apply(firstParam));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	protected List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList) {
-		return batchCallBack.apply((List<A>) transposedTupleList.get(0));
+	protected void invokeBatchCallBack(List<List<Object>> transposedTupleList, BatchResultSink<Z> resultSink) {
+		batchCallBack.apply((List<A>) transposedTupleList.get(0), resultSink);
 	}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -91,7 +92,69 @@ public class DelayedBatchExecutor3<Z, A, B> extends DelayedBatchExecutor<Z> {
 		List<Z> apply(List<A> firstParam, List<B> secondParam);
 	}
 
-	private final BatchCallBack3<Z, A, B> batchCallBack;
+	/**
+	 * Receive as argument two Lists of type A and B and returns a
+	 * {@link CompletionStage} that will complete with a List of type Z. It can
+	 * be implemented as a lambda expression or method reference <br>
+	 * The batchCallBack method does not need to block a thread of the
+	 * ExecutorService until the result is available, so it is suitable for
+	 * asynchronous drivers (i.e. R2DBC or asynchronous HTTP clients). The
+	 * invocations of the execute*(...) methods are given their result as soon
+	 * as the returned {@link CompletionStage} completes. A
+	 * <a href= "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html">Mono</a>
+	 * can be returned by means of its method toFuture() <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor3<String,Integer,Integer> dbe = DelayedBatchExecutor3.createAsync(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * CompletionStage<List<String>> myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List) {
+	 *      return myAsyncRepository.findAll(...).collectList().toFuture();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface AsyncBatchCallBack3<Z, A, B> {
+		CompletionStage<List<Z>> apply(List<A> firstParam, List<B> secondParam);
+	}
+
+	/**
+	 * Receive as argument two Lists of type A and B and a
+	 * {@link BatchResultSink} of type Z where the result for each position of
+	 * the lists is emitted as soon as it is available. It can be implemented as
+	 * a lambda expression or method reference <br>
+	 * The invocations of the execute*(...) methods are given their result as
+	 * soon as it is emitted, without waiting for the whole batch, which avoids
+	 * building the complete list of results in memory for large batches <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor3<String,Integer,Integer> dbe = DelayedBatchExecutor3.createStreaming(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * void myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, BatchResultSink<String> resultSink) {
+	 *      try (MyCursor cursor = ...) {
+	 *          while (cursor.next()) {
+	 *              resultSink.emit(cursor.getIndex(), cursor.getValue());
+	 *          }
+	 *      }
+	 *      resultSink.complete();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface StreamingBatchCallBack3<Z, A, B> {
+		void apply(List<A> firstParam, List<B> secondParam, BatchResultSink<Z> resultSink);
+	}
+
+	private final StreamingBatchCallBack3<Z, A, B> batchCallBack;
 
 	/**
 	 * Factory method to create an instance of a Delayed Batch Executor for two
@@ -121,7 +184,8 @@ public class DelayedBatchExecutor3<Z, A, B> extends DelayedBatchExecutor<Z> {
 
 	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> create(Duration duration, int size,
 			BatchCallBack3<Z, A, B> batchCallback3) {
-		return new DelayedBatchExecutor3<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true, batchCallback3);
+		return new DelayedBatchExecutor3<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				toStreamingBatchCallBack(batchCallback3));
 	}
 
 	/**
@@ -153,11 +217,231 @@ public class DelayedBatchExecutor3<Z, A, B> extends DelayedBatchExecutor<Z> {
 			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
 			BatchCallBack3<Z, A, B> batchCallback3) {
 		return new DelayedBatchExecutor3<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
-				batchCallback3);
+				toStreamingBatchCallBack(batchCallback3));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage}. Similar to
+	 * {@link DelayedBatchExecutor3#createAsync(Duration, int, ExecutorService, int, boolean, AsyncBatchCallBack3)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param asyncBatchCallback3 the method reference or lambda expression that
+	 *                            receives two Lists of type A and B and returns
+	 *                            a {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createAsync(Duration duration, int size,
+			AsyncBatchCallBack3<Z, A, B> asyncBatchCallback3) {
+		return new DelayedBatchExecutor3<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				asyncToStreamingBatchCallBack(asyncBatchCallback3));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage} <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param executorService     to define the pool of threads to invoke the
+	 *                            batchCallBack method in asynchronous mode
+	 * @param bufferQueueSize     max size of the internal queue to buffer
+	 *                            values
+	 * @param removeDuplicates    if true then duplicated arguments from
+	 *                            execute*(...) methods are not passed to the
+	 *                            batchCallBack (considering same
+	 *                            {@link Object#hashCode()} and being
+	 *                            {@link Object#equals(Object)})
+	 * @param asyncBatchCallback3 the method reference or lambda expression that
+	 *                            receives two Lists of type A and B and returns
+	 *                            a {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createAsync(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			AsyncBatchCallBack3<Z, A, B> asyncBatchCallback3) {
+		return new DelayedBatchExecutor3<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				asyncToStreamingBatchCallBack(asyncBatchCallback3));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack emits
+	 * each result to a {@link BatchResultSink} as soon as it is available.
+	 * Similar to
+	 * {@link DelayedBatchExecutor3#createStreaming(Duration, int, ExecutorService, int, boolean, StreamingBatchCallBack3)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param streamingBatchCallback3 the method reference or lambda expression
+	 *                                that receives two Lists of type A and B
+	 *                                and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createStreaming(Duration duration, int size,
+			StreamingBatchCallBack3<Z, A, B> streamingBatchCallback3) {
+		return new DelayedBatchExecutor3<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				streamingBatchCallback3);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack emits
+	 * each result to a {@link BatchResultSink} as soon as it is available <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param executorService         to define the pool of threads to invoke
+	 *                                the batchCallBack method in asynchronous
+	 *                                mode
+	 * @param bufferQueueSize         max size of the internal queue to buffer
+	 *                                values
+	 * @param removeDuplicates        if true then duplicated arguments from
+	 *                                execute*(...) methods are not passed to
+	 *                                the batchCallBack (considering same
+	 *                                {@link Object#hashCode()} and being
+	 *                                {@link Object#equals(Object)})
+	 * @param streamingBatchCallback3 the method reference or lambda expression
+	 *                                that receives two Lists of type A and B
+	 *                                and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createStreaming(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			StreamingBatchCallBack3<Z, A, B> streamingBatchCallback3) {
+		return new DelayedBatchExecutor3<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				streamingBatchCallback3);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, given its configuration
+	 * parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>            the return type
+	 * @param <A>            the type of the first argument
+	 * @param <B>            the type of the second argument
+	 * @param config         the configuration parameters of the Delayed Batch
+	 *                       Executor
+	 * @param batchCallback3 the method reference or lambda expression that
+	 *                       receives two Lists of type A and B and returns a
+	 *                       list of Type Z (see {@link BatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> create(DelayedBatchExecutorConfig config,
+			BatchCallBack3<Z, A, B> batchCallback3) {
+		return new DelayedBatchExecutor3<>(config, toStreamingBatchCallBack(batchCallback3));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage}, given its configuration parameters
+	 * (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param config              the configuration parameters of the Delayed
+	 *                            Batch Executor
+	 * @param asyncBatchCallback3 the method reference or lambda expression that
+	 *                            receives two Lists of type A and B and returns
+	 *                            a {@link CompletionStage} of a list of Type Z
+	 *                            (see {@link AsyncBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createAsync(DelayedBatchExecutorConfig config,
+			AsyncBatchCallBack3<Z, A, B> asyncBatchCallback3) {
+		return new DelayedBatchExecutor3<>(config, asyncToStreamingBatchCallBack(asyncBatchCallback3));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for two
+	 * arguments (of types A and B) and return type Z, whose batchCallBack emits
+	 * each result to a {@link BatchResultSink} as soon as it is available,
+	 * given its configuration parameters (see
+	 * {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param config                  the configuration parameters of the
+	 *                                Delayed Batch Executor
+	 * @param streamingBatchCallback3 the method reference or lambda expression
+	 *                                that receives two Lists of type A and B
+	 *                                and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack3})
+	 * @return an instance of {@link DelayedBatchExecutor3}
+	 *
+	 */
+
+	public static <Z, A, B> DelayedBatchExecutor3<Z, A, B> createStreaming(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack3<Z, A, B> streamingBatchCallback3) {
+		return new DelayedBatchExecutor3<>(config, streamingBatchCallback3);
+	}
+
+	private DelayedBatchExecutor3(DelayedBatchExecutorConfig config, StreamingBatchCallBack3<Z, A, B> batchCallBack) {
+		super(config);
+		this.batchCallBack = batchCallBack;
 	}
 
 	private DelayedBatchExecutor3(Duration duration, int size, ExecutorService executorService, int bufferQueueSize,
-			boolean removeDuplicates, BatchCallBack3<Z, A, B> batchCallBack) {
+			boolean removeDuplicates, StreamingBatchCallBack3<Z, A, B> batchCallBack) {
 		super(duration, size, executorService, bufferQueueSize, removeDuplicates);
 		this.batchCallBack = batchCallBack;
 	}
@@ -229,8 +513,11 @@ public class DelayedBatchExecutor3<Z, A, B> extends DelayedBatchExecutor<Z> {
 	 * The invoking thread is not blocked <br>
 	 * <br>
 	 * <img src="{@docRoot}/doc-files/mono.svg" alt="mono"> <br>
-	 * It will throw a {@link RuntimeException} if the internal buffer Queue of this
-	 * Delayed Batch Executor is full. <br>
+	 * The argument is enlisted when the Mono is subscribed, only once for the
+	 * subscribers at the same time, and it is not passed to the batchCallBack if
+	 * all of them cancel their subscription before it is executed. <br>
+	 * The Mono fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * if the internal buffer Queue of this Delayed Batch Executor is full. <br>
 	 * If a {@link RuntimeException} is thrown inside of the {@link BatchCallBack3},
 	 * then it will be the propagated as any {@link RuntimeException } thrown from
 	 * <a href=
@@ -249,15 +536,92 @@ public class DelayedBatchExecutor3<Z, A, B> extends DelayedBatchExecutor<Z> {
 	 *
 	 */
 	public Mono<Z> executeAsMono(A arg1, B arg2) {
-		TupleMono<Z> tupleMono = new TupleMono<>(arg1, arg2);
-		enlistTuple(tupleMono);
-		Mono<Z> mono = tupleMono.getMono();
-		return mono;
+		return enlistTupleMono(arg1, arg2);
+	}
+
+	/**
+	 * Return the list of results of type Z (blocking the thread until all of
+	 * them are available), being the result at each position the one obtained
+	 * from the batchCallBack method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * It will throw any {@link RuntimeException} thrown inside of the
+	 * {@link BatchCallBack3 } <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @return the list of results of type Z, in the same order as the arguments
+	 *
+	 */
+	public List<Z> executeAll(List<A> arg1List, List<B> arg2List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List);
+		List<Z> valueList = tupleListFuture.getValueBlocking();
+		return valueList;
+	}
+
+	/**
+	 * Return a {@link Future } containing the list of results of type Z, being
+	 * the result at each position the one obtained from the batchCallBack
+	 * method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * The invoking thread is not blocked. The results will be available by
+	 * invoking method {@link Future#get()} of the {@link Future }, once all of
+	 * them are available <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * If a {@link RuntimeException} is thrown inside of the
+	 * {@link BatchCallBack3 } for any of the arguments, then it will be the
+	 * cause of the checked Exception {@link ExecutionException} thrown by
+	 * {@link Future#get()} as per contract of {@link Future#get()} <br>
+	 * <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @return a {@link Future } for the list of results of type Z
+	 *
+	 */
+	public Future<List<Z>> executeAllAsFuture(List<A> arg1List, List<B> arg2List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List);
+		Future<List<Z>> future = tupleListFuture.getFuture();
+		return future;
+	}
+
+	private static <Z, A, B> StreamingBatchCallBack3<Z, A, B> toStreamingBatchCallBack(
+			BatchCallBack3<Z, A, B> batchCallBack) {
+		return (firstParam, secondParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam));
+	}
+
+	private static <Z, A, B> StreamingBatchCallBack3<Z, A, B> asyncToStreamingBatchCallBack(
+			AsyncBatchCallBack3<Z, A, B> batchCallBack) {
+		return (firstParam, secondParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	protected List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList) {
-		return batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1));
+	protected void invokeBatchCallBack(List<List<Object>> transposedTupleList, BatchResultSink<Z> resultSink) {
+		batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1), resultSink);
 	}
 }
\ No newline at end of file
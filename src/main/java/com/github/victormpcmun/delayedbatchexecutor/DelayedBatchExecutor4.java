@@ -4,6 +4,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -92,7 +93,69 @@ public class DelayedBatchExecutor4<Z, A, B, C> extends DelayedBatchExecutor<Z> {
 		List<Z> apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam);
 	}
 
-	private final BatchCallBack4<Z, A, B, C> batchCallBack;
+	/**
+	 * Receive as argument three Lists of type A,B and C and returns a
+	 * {@link CompletionStage} that will complete with a List of type Z. It can
+	 * be implemented as a lambda expression or method reference <br>
+	 * The batchCallBack method does not need to block a thread of the
+	 * ExecutorService until the result is available, so it is suitable for
+	 * asynchronous drivers (i.e. R2DBC or asynchronous HTTP clients). The
+	 * invocations of the execute*(...) methods are given their result as soon
+	 * as the returned {@link CompletionStage} completes. A
+	 * <a href= "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html">Mono</a>
+	 * can be returned by means of its method toFuture() <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor4<String,Integer,Integer,Integer> dbe = DelayedBatchExecutor4.createAsync(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * CompletionStage<List<String>> myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List) {
+	 *      return myAsyncRepository.findAll(...).collectList().toFuture();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface AsyncBatchCallBack4<Z, A, B, C> {
+		CompletionStage<List<Z>> apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam);
+	}
+
+	/**
+	 * Receive as argument three Lists of type A,B and C and a
+	 * {@link BatchResultSink} of type Z where the result for each position of
+	 * the lists is emitted as soon as it is available. It can be implemented as
+	 * a lambda expression or method reference <br>
+	 * The invocations of the execute*(...) methods are given their result as
+	 * soon as it is emitted, without waiting for the whole batch, which avoids
+	 * building the complete list of results in memory for large batches <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor4<String,Integer,Integer,Integer> dbe = DelayedBatchExecutor4.createStreaming(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * void myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List, BatchResultSink<String> resultSink) {
+	 *      try (MyCursor cursor = ...) {
+	 *          while (cursor.next()) {
+	 *              resultSink.emit(cursor.getIndex(), cursor.getValue());
+	 *          }
+	 *      }
+	 *      resultSink.complete();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface StreamingBatchCallBack4<Z, A, B, C> {
+		void apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam, BatchResultSink<Z> resultSink);
+	}
+
+	private final StreamingBatchCallBack4<Z, A, B, C> batchCallBack;
 
 	/**
 	 * Factory method to create an instance of a Delayed Batch Executor for two
@@ -122,7 +185,8 @@ public class DelayedBatchExecutor4<Z, A, B, C> extends DelayedBatchExecutor<Z> {
 	 */
 	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> create(Duration duration, int size,
 			BatchCallBack4<Z, A, B, C> batchCallback4) {
-		return new DelayedBatchExecutor4<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true, batchCallback4);
+		return new DelayedBatchExecutor4<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				toStreamingBatchCallBack(batchCallback4));
 	}
 
 	/**
@@ -155,11 +219,240 @@ public class DelayedBatchExecutor4<Z, A, B, C> extends DelayedBatchExecutor<Z> {
 			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
 			BatchCallBack4<Z, A, B, C> batchCallback4) {
 		return new DelayedBatchExecutor4<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
-				batchCallback4);
+				toStreamingBatchCallBack(batchCallback4));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage}. Similar to
+	 * {@link DelayedBatchExecutor4#createAsync(Duration, int, ExecutorService, int, boolean, AsyncBatchCallBack4)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param asyncBatchCallback4 the method reference or lambda expression that
+	 *                            receives three Lists of type A,B and C and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createAsync(Duration duration, int size,
+			AsyncBatchCallBack4<Z, A, B, C> asyncBatchCallback4) {
+		return new DelayedBatchExecutor4<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				asyncToStreamingBatchCallBack(asyncBatchCallback4));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage} <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param executorService     to define the pool of threads to invoke the
+	 *                            batchCallBack method in asynchronous mode
+	 * @param bufferQueueSize     max size of the internal queue to buffer
+	 *                            values
+	 * @param removeDuplicates    if true then duplicated arguments from
+	 *                            execute*(...) methods are not passed to the
+	 *                            batchCallBack (considering same
+	 *                            {@link Object#hashCode()} and being
+	 *                            {@link Object#equals(Object)})
+	 * @param asyncBatchCallback4 the method reference or lambda expression that
+	 *                            receives three Lists of type A,B and C and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createAsync(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			AsyncBatchCallBack4<Z, A, B, C> asyncBatchCallback4) {
+		return new DelayedBatchExecutor4<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				asyncToStreamingBatchCallBack(asyncBatchCallback4));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available. Similar to
+	 * {@link DelayedBatchExecutor4#createStreaming(Duration, int, ExecutorService, int, boolean, StreamingBatchCallBack4)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param streamingBatchCallback4 the method reference or lambda expression
+	 *                                that receives three Lists of type A,B and
+	 *                                C and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createStreaming(Duration duration, int size,
+			StreamingBatchCallBack4<Z, A, B, C> streamingBatchCallback4) {
+		return new DelayedBatchExecutor4<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				streamingBatchCallback4);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param executorService         to define the pool of threads to invoke
+	 *                                the batchCallBack method in asynchronous
+	 *                                mode
+	 * @param bufferQueueSize         max size of the internal queue to buffer
+	 *                                values
+	 * @param removeDuplicates        if true then duplicated arguments from
+	 *                                execute*(...) methods are not passed to
+	 *                                the batchCallBack (considering same
+	 *                                {@link Object#hashCode()} and being
+	 *                                {@link Object#equals(Object)})
+	 * @param streamingBatchCallback4 the method reference or lambda expression
+	 *                                that receives three Lists of type A,B and
+	 *                                C and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createStreaming(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			StreamingBatchCallBack4<Z, A, B, C> streamingBatchCallback4) {
+		return new DelayedBatchExecutor4<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				streamingBatchCallback4);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, given its
+	 * configuration parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>            the return type
+	 * @param <A>            the type of the first argument
+	 * @param <B>            the type of the second argument
+	 * @param <C>            the type of the third argument
+	 * @param config         the configuration parameters of the Delayed Batch
+	 *                       Executor
+	 * @param batchCallback4 the method reference or lambda expression that
+	 *                       receives three Lists of type A,B and C and returns
+	 *                       a list of Type Z (see {@link BatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> create(DelayedBatchExecutorConfig config,
+			BatchCallBack4<Z, A, B, C> batchCallback4) {
+		return new DelayedBatchExecutor4<>(config, toStreamingBatchCallBack(batchCallback4));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage}, given its configuration
+	 * parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param config              the configuration parameters of the Delayed
+	 *                            Batch Executor
+	 * @param asyncBatchCallback4 the method reference or lambda expression that
+	 *                            receives three Lists of type A,B and C and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createAsync(DelayedBatchExecutorConfig config,
+			AsyncBatchCallBack4<Z, A, B, C> asyncBatchCallback4) {
+		return new DelayedBatchExecutor4<>(config, asyncToStreamingBatchCallBack(asyncBatchCallback4));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for
+	 * three arguments (of types A,B and C) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available, given its configuration parameters (see
+	 * {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param config                  the configuration parameters of the
+	 *                                Delayed Batch Executor
+	 * @param streamingBatchCallback4 the method reference or lambda expression
+	 *                                that receives three Lists of type A,B and
+	 *                                C and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack4})
+	 * @return an instance of {@link DelayedBatchExecutor4}
+	 *
+	 */
+
+	public static <Z, A, B, C> DelayedBatchExecutor4<Z, A, B, C> createStreaming(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack4<Z, A, B, C> streamingBatchCallback4) {
+		return new DelayedBatchExecutor4<>(config, streamingBatchCallback4);
+	}
+
+	private DelayedBatchExecutor4(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack4<Z, A, B, C> batchCallBack) {
+		super(config);
+		this.batchCallBack = batchCallBack;
 	}
 
 	private DelayedBatchExecutor4(Duration duration, int size, ExecutorService executorService, int bufferQueueSize,
-			boolean removeDuplicates, BatchCallBack4<Z, A, B, C> batchCallBack) {
+			boolean removeDuplicates, StreamingBatchCallBack4<Z, A, B, C> batchCallBack) {
 		super(duration, size, executorService, bufferQueueSize, removeDuplicates);
 		this.batchCallBack = batchCallBack;
 	}
@@ -234,8 +527,11 @@ public class DelayedBatchExecutor4<Z, A, B, C> extends DelayedBatchExecutor<Z> {
 	 * The invoking thread is not blocked <br>
 	 * <br>
 	 * <img src="{@docRoot}/doc-files/mono.svg" alt="mono"> <br>
-	 * It will throw a {@link RuntimeException} if the internal buffer Queue of this
-	 * Delayed Batch Executor is full. <br>
+	 * The argument is enlisted when the Mono is subscribed, only once for the
+	 * subscribers at the same time, and it is not passed to the batchCallBack if
+	 * all of them cancel their subscription before it is executed. <br>
+	 * The Mono fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * if the internal buffer Queue of this Delayed Batch Executor is full. <br>
 	 * If a {@link RuntimeException} is thrown inside of the {@link BatchCallBack4},
 	 * then it will be the propagated as any {@link RuntimeException } thrown from
 	 * <a href=
@@ -256,16 +552,97 @@ public class DelayedBatchExecutor4<Z, A, B, C> extends DelayedBatchExecutor<Z> {
 	 *
 	 */
 	public Mono<Z> executeAsMono(A arg1, B arg2, C arg3) {
-		TupleMono<Z> tupleMono = new TupleMono<>(arg1, arg2, arg3);
-		enlistTuple(tupleMono);
-		Mono<Z> mono = tupleMono.getMono();
-		return mono;
+		return enlistTupleMono(arg1, arg2, arg3);
+	}
+
+	/**
+	 * Return the list of results of type Z (blocking the thread until all of
+	 * them are available), being the result at each position the one obtained
+	 * from the batchCallBack method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * It will throw any {@link RuntimeException} thrown inside of the
+	 * {@link BatchCallBack4 } <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @return the list of results of type Z, in the same order as the arguments
+	 *
+	 */
+	public List<Z> executeAll(List<A> arg1List, List<B> arg2List, List<C> arg3List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List);
+		List<Z> valueList = tupleListFuture.getValueBlocking();
+		return valueList;
+	}
+
+	/**
+	 * Return a {@link Future } containing the list of results of type Z, being
+	 * the result at each position the one obtained from the batchCallBack
+	 * method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * The invoking thread is not blocked. The results will be available by
+	 * invoking method {@link Future#get()} of the {@link Future }, once all of
+	 * them are available <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * If a {@link RuntimeException} is thrown inside of the
+	 * {@link BatchCallBack4 } for any of the arguments, then it will be the
+	 * cause of the checked Exception {@link ExecutionException} thrown by
+	 * {@link Future#get()} as per contract of {@link Future#get()} <br>
+	 * <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @return a {@link Future } for the list of results of type Z
+	 *
+	 */
+	public Future<List<Z>> executeAllAsFuture(List<A> arg1List, List<B> arg2List, List<C> arg3List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List);
+		Future<List<Z>> future = tupleListFuture.getFuture();
+		return future;
+	}
+
+	private static <Z, A, B, C> StreamingBatchCallBack4<Z, A, B, C> toStreamingBatchCallBack(
+			BatchCallBack4<Z, A, B, C> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam));
+	}
+
+	private static <Z, A, B, C> StreamingBatchCallBack4<Z, A, B, C> asyncToStreamingBatchCallBack(
+			AsyncBatchCallBack4<Z, A, B, C> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	protected List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList) {
-		return batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
-				(List<C>) transposedTupleList.get(2));
+	protected void invokeBatchCallBack(List<List<Object>> transposedTupleList, BatchResultSink<Z> resultSink) {
+		batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
+				(List<C>) transposedTupleList.get(2), resultSink);
 	}
 }
\ No newline at end of file
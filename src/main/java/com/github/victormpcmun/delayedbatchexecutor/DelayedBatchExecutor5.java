@@ -4,6 +4,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -92,7 +93,71 @@ public class DelayedBatchExecutor5<Z, A, B, C, D> extends DelayedBatchExecutor<Z
 		List<Z> apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam, List<D> fourthParam);
 	}
 
-	private final BatchCallBack5<Z, A, B, C, D> batchCallBack;
+	/**
+	 * Receive as argument four Lists of type A,B,C and D and returns a
+	 * {@link CompletionStage} that will complete with a List of type Z. It can
+	 * be implemented as a lambda expression or method reference <br>
+	 * The batchCallBack method does not need to block a thread of the
+	 * ExecutorService until the result is available, so it is suitable for
+	 * asynchronous drivers (i.e. R2DBC or asynchronous HTTP clients). The
+	 * invocations of the execute*(...) methods are given their result as soon
+	 * as the returned {@link CompletionStage} completes. A
+	 * <a href= "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html">Mono</a>
+	 * can be returned by means of its method toFuture() <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor5<String,Integer,Integer,Integer,Integer> dbe = DelayedBatchExecutor5.createAsync(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * CompletionStage<List<String>> myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List, List<Integer> arg4List) {
+	 *      return myAsyncRepository.findAll(...).collectList().toFuture();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface AsyncBatchCallBack5<Z, A, B, C, D> {
+		CompletionStage<List<Z>> apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam,
+				List<D> fourthParam);
+	}
+
+	/**
+	 * Receive as argument four Lists of type A,B,C and D and a
+	 * {@link BatchResultSink} of type Z where the result for each position of
+	 * the lists is emitted as soon as it is available. It can be implemented as
+	 * a lambda expression or method reference <br>
+	 * The invocations of the execute*(...) methods are given their result as
+	 * soon as it is emitted, without waiting for the whole batch, which avoids
+	 * building the complete list of results in memory for large batches <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor5<String,Integer,Integer,Integer,Integer> dbe = DelayedBatchExecutor5.createStreaming(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * void myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List, List<Integer> arg4List, BatchResultSink<String> resultSink) {
+	 *      try (MyCursor cursor = ...) {
+	 *          while (cursor.next()) {
+	 *              resultSink.emit(cursor.getIndex(), cursor.getValue());
+	 *          }
+	 *      }
+	 *      resultSink.complete();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface StreamingBatchCallBack5<Z, A, B, C, D> {
+		void apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam, List<D> fourthParam,
+				BatchResultSink<Z> resultSink);
+	}
+
+	private final StreamingBatchCallBack5<Z, A, B, C, D> batchCallBack;
 
 	/**
 	 * Factory method to create an instance of a Delayed Batch Executor for two
@@ -123,7 +188,8 @@ public class DelayedBatchExecutor5<Z, A, B, C, D> extends DelayedBatchExecutor<Z
 	 */
 	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> create(Duration duration, int size,
 			BatchCallBack5<Z, A, B, C, D> batchCallback5) {
-		return new DelayedBatchExecutor5<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true, batchCallback5);
+		return new DelayedBatchExecutor5<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				toStreamingBatchCallBack(batchCallback5));
 	}
 
 	/**
@@ -156,11 +222,247 @@ public class DelayedBatchExecutor5<Z, A, B, C, D> extends DelayedBatchExecutor<Z
 			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
 			BatchCallBack5<Z, A, B, C, D> batchCallback5) {
 		return new DelayedBatchExecutor5<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
-				batchCallback5);
+				toStreamingBatchCallBack(batchCallback5));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage}. Similar to
+	 * {@link DelayedBatchExecutor5#createAsync(Duration, int, ExecutorService, int, boolean, AsyncBatchCallBack5)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param asyncBatchCallback5 the method reference or lambda expression that
+	 *                            receives four Lists of type A,B,C and D and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createAsync(Duration duration, int size,
+			AsyncBatchCallBack5<Z, A, B, C, D> asyncBatchCallback5) {
+		return new DelayedBatchExecutor5<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				asyncToStreamingBatchCallBack(asyncBatchCallback5));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage} <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param executorService     to define the pool of threads to invoke the
+	 *                            batchCallBack method in asynchronous mode
+	 * @param bufferQueueSize     max size of the internal queue to buffer
+	 *                            values
+	 * @param removeDuplicates    if true then duplicated arguments from
+	 *                            execute*(...) methods are not passed to the
+	 *                            batchCallBack (considering same
+	 *                            {@link Object#hashCode()} and being
+	 *                            {@link Object#equals(Object)})
+	 * @param asyncBatchCallback5 the method reference or lambda expression that
+	 *                            receives four Lists of type A,B,C and D and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createAsync(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			AsyncBatchCallBack5<Z, A, B, C, D> asyncBatchCallback5) {
+		return new DelayedBatchExecutor5<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				asyncToStreamingBatchCallBack(asyncBatchCallback5));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * emits each result to a {@link BatchResultSink} as soon as it is
+	 * available. Similar to
+	 * {@link DelayedBatchExecutor5#createStreaming(Duration, int, ExecutorService, int, boolean, StreamingBatchCallBack5)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param streamingBatchCallback5 the method reference or lambda expression
+	 *                                that receives four Lists of type A,B,C and
+	 *                                D and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createStreaming(Duration duration, int size,
+			StreamingBatchCallBack5<Z, A, B, C, D> streamingBatchCallback5) {
+		return new DelayedBatchExecutor5<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				streamingBatchCallback5);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * emits each result to a {@link BatchResultSink} as soon as it is available
+	 * <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param executorService         to define the pool of threads to invoke
+	 *                                the batchCallBack method in asynchronous
+	 *                                mode
+	 * @param bufferQueueSize         max size of the internal queue to buffer
+	 *                                values
+	 * @param removeDuplicates        if true then duplicated arguments from
+	 *                                execute*(...) methods are not passed to
+	 *                                the batchCallBack (considering same
+	 *                                {@link Object#hashCode()} and being
+	 *                                {@link Object#equals(Object)})
+	 * @param streamingBatchCallback5 the method reference or lambda expression
+	 *                                that receives four Lists of type A,B,C and
+	 *                                D and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createStreaming(Duration duration, int size,
+			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			StreamingBatchCallBack5<Z, A, B, C, D> streamingBatchCallback5) {
+		return new DelayedBatchExecutor5<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				streamingBatchCallback5);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, given its
+	 * configuration parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>            the return type
+	 * @param <A>            the type of the first argument
+	 * @param <B>            the type of the second argument
+	 * @param <C>            the type of the third argument
+	 * @param <D>            the type of the fourth argument
+	 * @param config         the configuration parameters of the Delayed Batch
+	 *                       Executor
+	 * @param batchCallback5 the method reference or lambda expression that
+	 *                       receives four Lists of type A,B,C and D and returns
+	 *                       a list of Type Z (see {@link BatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> create(DelayedBatchExecutorConfig config,
+			BatchCallBack5<Z, A, B, C, D> batchCallback5) {
+		return new DelayedBatchExecutor5<>(config, toStreamingBatchCallBack(batchCallback5));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * returns a {@link CompletionStage}, given its configuration parameters
+	 * (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param config              the configuration parameters of the Delayed
+	 *                            Batch Executor
+	 * @param asyncBatchCallback5 the method reference or lambda expression that
+	 *                            receives four Lists of type A,B,C and D and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createAsync(DelayedBatchExecutorConfig config,
+			AsyncBatchCallBack5<Z, A, B, C, D> asyncBatchCallback5) {
+		return new DelayedBatchExecutor5<>(config, asyncToStreamingBatchCallBack(asyncBatchCallback5));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for four
+	 * arguments (of types A,B,C and D) and return type Z, whose batchCallBack
+	 * emits each result to a {@link BatchResultSink} as soon as it is
+	 * available, given its configuration parameters (see
+	 * {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param config                  the configuration parameters of the
+	 *                                Delayed Batch Executor
+	 * @param streamingBatchCallback5 the method reference or lambda expression
+	 *                                that receives four Lists of type A,B,C and
+	 *                                D and a {@link BatchResultSink} of type Z
+	 *                                (see {@link StreamingBatchCallBack5})
+	 * @return an instance of {@link DelayedBatchExecutor5}
+	 *
+	 */
+
+	public static <Z, A, B, C, D> DelayedBatchExecutor5<Z, A, B, C, D> createStreaming(
+			DelayedBatchExecutorConfig config, StreamingBatchCallBack5<Z, A, B, C, D> streamingBatchCallback5) {
+		return new DelayedBatchExecutor5<>(config, streamingBatchCallback5);
+	}
+
+	private DelayedBatchExecutor5(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack5<Z, A, B, C, D> batchCallBack) {
+		super(config);
+		this.batchCallBack = batchCallBack;
 	}
 
 	private DelayedBatchExecutor5(Duration duration, int size, ExecutorService executorService, int bufferQueueSize,
-			boolean removeDuplicates, BatchCallBack5<Z, A, B, C, D> batchCallBack) {
+			boolean removeDuplicates, StreamingBatchCallBack5<Z, A, B, C, D> batchCallBack) {
 		super(duration, size, executorService, bufferQueueSize, removeDuplicates);
 		this.batchCallBack = batchCallBack;
 	}
@@ -240,8 +542,11 @@ public class DelayedBatchExecutor5<Z, A, B, C, D> extends DelayedBatchExecutor<Z
 	 * The invoking thread is not blocked <br>
 	 * <br>
 	 * <img src="{@docRoot}/doc-files/mono.svg" alt="mono"> <br>
-	 * It will throw a {@link RuntimeException} if the internal buffer Queue of this
-	 * Delayed Batch Executor is full. <br>
+	 * The argument is enlisted when the Mono is subscribed, only once for the
+	 * subscribers at the same time, and it is not passed to the batchCallBack if
+	 * all of them cancel their subscription before it is executed. <br>
+	 * The Mono fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * if the internal buffer Queue of this Delayed Batch Executor is full. <br>
 	 * If a {@link RuntimeException} is thrown inside of the {@link BatchCallBack5},
 	 * then it will be the propagated as any {@link RuntimeException } thrown from
 	 * <a href=
@@ -264,16 +569,101 @@ public class DelayedBatchExecutor5<Z, A, B, C, D> extends DelayedBatchExecutor<Z
 	 *
 	 */
 	public Mono<Z> executeAsMono(A arg1, B arg2, C arg3, D arg4) {
-		TupleMono<Z> tupleMono = new TupleMono<>(arg1, arg2, arg3, arg4);
-		enlistTuple(tupleMono);
-		Mono<Z> mono = tupleMono.getMono();
-		return mono;
+		return enlistTupleMono(arg1, arg2, arg3, arg4);
+	}
+
+	/**
+	 * Return the list of results of type Z (blocking the thread until all of
+	 * them are available), being the result at each position the one obtained
+	 * from the batchCallBack method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * It will throw any {@link RuntimeException} thrown inside of the
+	 * {@link BatchCallBack5 } <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg4List values of the fourth argument of type D defined for this
+	 *                 Delayed Batch Executor
+	 * @return the list of results of type Z, in the same order as the arguments
+	 *
+	 */
+	public List<Z> executeAll(List<A> arg1List, List<B> arg2List, List<C> arg3List, List<D> arg4List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List, arg4List);
+		List<Z> valueList = tupleListFuture.getValueBlocking();
+		return valueList;
+	}
+
+	/**
+	 * Return a {@link Future } containing the list of results of type Z, being
+	 * the result at each position the one obtained from the batchCallBack
+	 * method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * The invoking thread is not blocked. The results will be available by
+	 * invoking method {@link Future#get()} of the {@link Future }, once all of
+	 * them are available <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * If a {@link RuntimeException} is thrown inside of the
+	 * {@link BatchCallBack5 } for any of the arguments, then it will be the
+	 * cause of the checked Exception {@link ExecutionException} thrown by
+	 * {@link Future#get()} as per contract of {@link Future#get()} <br>
+	 * <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg4List values of the fourth argument of type D defined for this
+	 *                 Delayed Batch Executor
+	 * @return a {@link Future } for the list of results of type Z
+	 *
+	 */
+	public Future<List<Z>> executeAllAsFuture(List<A> arg1List, List<B> arg2List, List<C> arg3List, List<D> arg4List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List, arg4List);
+		Future<List<Z>> future = tupleListFuture.getFuture();
+		return future;
+	}
+
+	private static <Z, A, B, C, D> StreamingBatchCallBack5<Z, A, B, C, D> toStreamingBatchCallBack(
+			BatchCallBack5<Z, A, B, C, D> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, fourthParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam, fourthParam));
+	}
+
+	private static <Z, A, B, C, D> StreamingBatchCallBack5<Z, A, B, C, D> asyncToStreamingBatchCallBack(
+			AsyncBatchCallBack5<Z, A, B, C, D> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, fourthParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam, fourthParam));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	protected List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList) {
-		return batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
-				(List<C>) transposedTupleList.get(2), (List<D>) transposedTupleList.get(3));
+	protected void invokeBatchCallBack(List<List<Object>> transposedTupleList, BatchResultSink<Z> resultSink) {
+		batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
+				(List<C>) transposedTupleList.get(2), (List<D>) transposedTupleList.get(3), resultSink);
 	}
 }
\ No newline at end of file
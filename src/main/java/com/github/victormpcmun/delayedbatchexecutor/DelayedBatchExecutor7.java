@@ -4,6 +4,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -93,7 +94,71 @@ public class DelayedBatchExecutor7<Z, A, B, C, D, E, F> extends DelayedBatchExec
 				List<E> fifthParam, List<F> sixthParam);
 	}
 
-	private final BatchCallBack7<Z, A, B, C, D, E, F> batchCallBack;
+	/**
+	 * Receive as argument six Lists of type A,B,C,D,E and F and returns a
+	 * {@link CompletionStage} that will complete with a List of type Z. It can
+	 * be implemented as a lambda expression or method reference <br>
+	 * The batchCallBack method does not need to block a thread of the
+	 * ExecutorService until the result is available, so it is suitable for
+	 * asynchronous drivers (i.e. R2DBC or asynchronous HTTP clients). The
+	 * invocations of the execute*(...) methods are given their result as soon
+	 * as the returned {@link CompletionStage} completes. A
+	 * <a href= "https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html">Mono</a>
+	 * can be returned by means of its method toFuture() <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor7<String,Integer,Integer,Integer,Integer,Integer,Integer> dbe = DelayedBatchExecutor7.createAsync(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * CompletionStage<List<String>> myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List, List<Integer> arg4List, List<Integer> arg5List, List<Integer> arg6List) {
+	 *      return myAsyncRepository.findAll(...).collectList().toFuture();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface AsyncBatchCallBack7<Z, A, B, C, D, E, F> {
+		CompletionStage<List<Z>> apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam, List<D> fourthParam,
+				List<E> fifthParam, List<F> sixthParam);
+	}
+
+	/**
+	 * Receive as argument six Lists of type A,B,C,D,E and F and a
+	 * {@link BatchResultSink} of type Z where the result for each position of
+	 * the lists is emitted as soon as it is available. It can be implemented as
+	 * a lambda expression or method reference <br>
+	 * The invocations of the execute*(...) methods are given their result as
+	 * soon as it is emitted, without waiting for the whole batch, which avoids
+	 * building the complete list of results in memory for large batches <br>
+	 * <br>
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutor7<String,Integer,Integer,Integer,Integer,Integer,Integer> dbe = DelayedBatchExecutor7.createStreaming(Duration.ofMillis(50), 10, this::myBatchCallBack);
+	 * ...
+	 * void myBatchCallBack(List<Integer> arg1List, List<Integer> arg2List, List<Integer> arg3List, List<Integer> arg4List, List<Integer> arg5List, List<Integer> arg6List, BatchResultSink<String> resultSink) {
+	 *      try (MyCursor cursor = ...) {
+	 *          while (cursor.next()) {
+	 *              resultSink.emit(cursor.getIndex(), cursor.getValue());
+	 *          }
+	 *      }
+	 *      resultSink.complete();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @author Victor Porcar
+	 *
+	 */
+	@FunctionalInterface
+	public interface StreamingBatchCallBack7<Z, A, B, C, D, E, F> {
+		void apply(List<A> firstParam, List<B> secondParam, List<C> thirdParam, List<D> fourthParam, List<E> fifthParam,
+				List<F> sixthParam, BatchResultSink<Z> resultSink);
+	}
+
+	private final StreamingBatchCallBack7<Z, A, B, C, D, E, F> batchCallBack;
 
 	/**
 	 * Factory method to create an instance of a Delayed Batch Executor for six
@@ -127,7 +192,8 @@ public class DelayedBatchExecutor7<Z, A, B, C, D, E, F> extends DelayedBatchExec
 
 	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> create(Duration duration, int size,
 			BatchCallBack7<Z, A, B, C, D, E, F> batchCallback7) {
-		return new DelayedBatchExecutor7<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true, batchCallback7);
+		return new DelayedBatchExecutor7<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				toStreamingBatchCallBack(batchCallback7));
 	}
 
 	/**
@@ -163,11 +229,265 @@ public class DelayedBatchExecutor7<Z, A, B, C, D, E, F> extends DelayedBatchExec
 			ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
 			BatchCallBack7<Z, A, B, C, D, E, F> batchCallback7) {
 		return new DelayedBatchExecutor7<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
-				batchCallback7);
+				toStreamingBatchCallBack(batchCallback7));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage}. Similar to
+	 * {@link DelayedBatchExecutor7#createAsync(Duration, int, ExecutorService, int, boolean, AsyncBatchCallBack7)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param <E>                 the type of the fifth argument
+	 * @param <F>                 the type of the sixth argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param asyncBatchCallback7 the method reference or lambda expression that
+	 *                            receives six Lists of type A,B,C,D,E and F and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createAsync(Duration duration,
+			int size, AsyncBatchCallBack7<Z, A, B, C, D, E, F> asyncBatchCallback7) {
+		return new DelayedBatchExecutor7<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				asyncToStreamingBatchCallBack(asyncBatchCallback7));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage} <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param <E>                 the type of the fifth argument
+	 * @param <F>                 the type of the sixth argument
+	 * @param duration            the time window, defined as {@link Duration }.
+	 * @param size                the max collected size. As soon as the count
+	 *                            of collected parameters reaches this size, the
+	 *                            batchCallBack method is executed
+	 * @param executorService     to define the pool of threads to invoke the
+	 *                            batchCallBack method in asynchronous mode
+	 * @param bufferQueueSize     max size of the internal queue to buffer
+	 *                            values
+	 * @param removeDuplicates    if true then duplicated arguments from
+	 *                            execute*(...) methods are not passed to the
+	 *                            batchCallBack (considering same
+	 *                            {@link Object#hashCode()} and being
+	 *                            {@link Object#equals(Object)})
+	 * @param asyncBatchCallback7 the method reference or lambda expression that
+	 *                            receives six Lists of type A,B,C,D,E and F and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createAsync(Duration duration,
+			int size, ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			AsyncBatchCallBack7<Z, A, B, C, D, E, F> asyncBatchCallback7) {
+		return new DelayedBatchExecutor7<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				asyncToStreamingBatchCallBack(asyncBatchCallback7));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available. Similar to
+	 * {@link DelayedBatchExecutor7#createStreaming(Duration, int, ExecutorService, int, boolean, StreamingBatchCallBack7)}
+	 * defaulting to: <br>
+	 * <br>
+	 * -executorService: the one returned by static method
+	 * {@link #getDefaultExecutorService()} <br>
+	 * -bufferQueueSize: the value of constant
+	 * {@link #DEFAULT_BUFFER_QUEUE_SIZE} <br>
+	 * -removeDuplicates:true <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param <E>                     the type of the fifth argument
+	 * @param <F>                     the type of the sixth argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param streamingBatchCallback7 the method reference or lambda expression
+	 *                                that receives six Lists of type A,B,C,D,E
+	 *                                and F and a {@link BatchResultSink} of
+	 *                                type Z (see
+	 *                                {@link StreamingBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createStreaming(Duration duration,
+			int size, StreamingBatchCallBack7<Z, A, B, C, D, E, F> streamingBatchCallback7) {
+		return new DelayedBatchExecutor7<>(duration, size, null, DEFAULT_BUFFER_QUEUE_SIZE, true,
+				streamingBatchCallback7);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param <E>                     the type of the fifth argument
+	 * @param <F>                     the type of the sixth argument
+	 * @param duration                the time window, defined as
+	 *                                {@link Duration }.
+	 * @param size                    the max collected size. As soon as the
+	 *                                count of collected parameters reaches this
+	 *                                size, the batchCallBack method is executed
+	 * @param executorService         to define the pool of threads to invoke
+	 *                                the batchCallBack method in asynchronous
+	 *                                mode
+	 * @param bufferQueueSize         max size of the internal queue to buffer
+	 *                                values
+	 * @param removeDuplicates        if true then duplicated arguments from
+	 *                                execute*(...) methods are not passed to
+	 *                                the batchCallBack (considering same
+	 *                                {@link Object#hashCode()} and being
+	 *                                {@link Object#equals(Object)})
+	 * @param streamingBatchCallback7 the method reference or lambda expression
+	 *                                that receives six Lists of type A,B,C,D,E
+	 *                                and F and a {@link BatchResultSink} of
+	 *                                type Z (see
+	 *                                {@link StreamingBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createStreaming(Duration duration,
+			int size, ExecutorService executorService, int bufferQueueSize, boolean removeDuplicates,
+			StreamingBatchCallBack7<Z, A, B, C, D, E, F> streamingBatchCallback7) {
+		return new DelayedBatchExecutor7<>(duration, size, executorService, bufferQueueSize, removeDuplicates,
+				streamingBatchCallback7);
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, given its
+	 * configuration parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>            the return type
+	 * @param <A>            the type of the first argument
+	 * @param <B>            the type of the second argument
+	 * @param <C>            the type of the third argument
+	 * @param <D>            the type of the fourth argument
+	 * @param <E>            the type of the fifth argument
+	 * @param <F>            the type of the sixth argument
+	 * @param config         the configuration parameters of the Delayed Batch
+	 *                       Executor
+	 * @param batchCallback7 the method reference or lambda expression that
+	 *                       receives six Lists of type A,B,C,D,E and F and
+	 *                       returns a list of Type Z (see
+	 *                       {@link BatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> create(
+			DelayedBatchExecutorConfig config, BatchCallBack7<Z, A, B, C, D, E, F> batchCallback7) {
+		return new DelayedBatchExecutor7<>(config, toStreamingBatchCallBack(batchCallback7));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack returns a {@link CompletionStage}, given its configuration
+	 * parameters (see {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                 the return type
+	 * @param <A>                 the type of the first argument
+	 * @param <B>                 the type of the second argument
+	 * @param <C>                 the type of the third argument
+	 * @param <D>                 the type of the fourth argument
+	 * @param <E>                 the type of the fifth argument
+	 * @param <F>                 the type of the sixth argument
+	 * @param config              the configuration parameters of the Delayed
+	 *                            Batch Executor
+	 * @param asyncBatchCallback7 the method reference or lambda expression that
+	 *                            receives six Lists of type A,B,C,D,E and F and
+	 *                            returns a {@link CompletionStage} of a list of
+	 *                            Type Z (see {@link AsyncBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createAsync(
+			DelayedBatchExecutorConfig config, AsyncBatchCallBack7<Z, A, B, C, D, E, F> asyncBatchCallback7) {
+		return new DelayedBatchExecutor7<>(config, asyncToStreamingBatchCallBack(asyncBatchCallback7));
+	}
+
+	/**
+	 * Factory method to create an instance of a Delayed Batch Executor for six
+	 * arguments (of types A,B,C,D,E and F) and return type Z, whose
+	 * batchCallBack emits each result to a {@link BatchResultSink} as soon as
+	 * it is available, given its configuration parameters (see
+	 * {@link DelayedBatchExecutorConfig}) <br>
+	 * 
+	 * @param <Z>                     the return type
+	 * @param <A>                     the type of the first argument
+	 * @param <B>                     the type of the second argument
+	 * @param <C>                     the type of the third argument
+	 * @param <D>                     the type of the fourth argument
+	 * @param <E>                     the type of the fifth argument
+	 * @param <F>                     the type of the sixth argument
+	 * @param config                  the configuration parameters of the
+	 *                                Delayed Batch Executor
+	 * @param streamingBatchCallback7 the method reference or lambda expression
+	 *                                that receives six Lists of type A,B,C,D,E
+	 *                                and F and a {@link BatchResultSink} of
+	 *                                type Z (see
+	 *                                {@link StreamingBatchCallBack7})
+	 * @return an instance of {@link DelayedBatchExecutor7}
+	 *
+	 */
+
+	public static <Z, A, B, C, D, E, F> DelayedBatchExecutor7<Z, A, B, C, D, E, F> createStreaming(
+			DelayedBatchExecutorConfig config, StreamingBatchCallBack7<Z, A, B, C, D, E, F> streamingBatchCallback7) {
+		return new DelayedBatchExecutor7<>(config, streamingBatchCallback7);
+	}
+
+	private DelayedBatchExecutor7(DelayedBatchExecutorConfig config,
+			StreamingBatchCallBack7<Z, A, B, C, D, E, F> batchCallBack) {
+		super(config);
+		this.batchCallBack = batchCallBack;
 	}
 
 	private DelayedBatchExecutor7(Duration duration, int size, ExecutorService executorService, int bufferQueueSize,
-			boolean removeDuplicates, BatchCallBack7<Z, A, B, C, D, E, F> batchCallBack) {
+			boolean removeDuplicates, StreamingBatchCallBack7<Z, A, B, C, D, E, F> batchCallBack) {
 		super(duration, size, executorService, bufferQueueSize, removeDuplicates);
 		this.batchCallBack = batchCallBack;
 	}
@@ -255,8 +575,11 @@ public class DelayedBatchExecutor7<Z, A, B, C, D, E, F> extends DelayedBatchExec
 	 * The invoking thread is not blocked <br>
 	 * <br>
 	 * <img src="{@docRoot}/doc-files/mono.svg" alt="mono"> <br>
-	 * It will throw a {@link RuntimeException} if the internal buffer Queue of this
-	 * Delayed Batch Executor is full. <br>
+	 * The argument is enlisted when the Mono is subscribed, only once for the
+	 * subscribers at the same time, and it is not passed to the batchCallBack if
+	 * all of them cancel their subscription before it is executed. <br>
+	 * The Mono fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * if the internal buffer Queue of this Delayed Batch Executor is full. <br>
 	 * If a {@link RuntimeException} is thrown inside of the {@link BatchCallBack7},
 	 * then it will be the propagated as any {@link RuntimeException } thrown from
 	 * <a href=
@@ -283,17 +606,114 @@ public class DelayedBatchExecutor7<Z, A, B, C, D, E, F> extends DelayedBatchExec
 	 *
 	 */
 	public Mono<Z> executeAsMono(A arg1, B arg2, C arg3, D arg4, E arg5, F arg6) {
-		TupleMono<Z> tupleMono = new TupleMono<>(arg1, arg2, arg3, arg4, arg5, arg6);
-		enlistTuple(tupleMono);
-		Mono<Z> mono = tupleMono.getMono();
-		return mono;
+		return enlistTupleMono(arg1, arg2, arg3, arg4, arg5, arg6);
+	}
+
+	/**
+	 * Return the list of results of type Z (blocking the thread until all of
+	 * them are available), being the result at each position the one obtained
+	 * from the batchCallBack method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * It will throw any {@link RuntimeException} thrown inside of the
+	 * {@link BatchCallBack7 } <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg4List values of the fourth argument of type D defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg5List values of the fifth argument of type E defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg6List values of the sixth argument of type F defined for this
+	 *                 Delayed Batch Executor
+	 * @return the list of results of type Z, in the same order as the arguments
+	 *
+	 */
+	public List<Z> executeAll(List<A> arg1List, List<B> arg2List, List<C> arg3List, List<D> arg4List, List<E> arg5List,
+			List<F> arg6List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List, arg4List, arg5List,
+				arg6List);
+		List<Z> valueList = tupleListFuture.getValueBlocking();
+		return valueList;
+	}
+
+	/**
+	 * Return a {@link Future } containing the list of results of type Z, being
+	 * the result at each position the one obtained from the batchCallBack
+	 * method for the arguments at the same position <br>
+	 * <br>
+	 * All of the arguments are enlisted with a single operation and they are
+	 * split in several executions of the batchCallBack method if they exceed
+	 * its maxSize <br>
+	 * <br>
+	 * The invoking thread is not blocked. The results will be available by
+	 * invoking method {@link Future#get()} of the {@link Future }, once all of
+	 * them are available <br>
+	 * It will throw a {@link RuntimeException} if the internal buffer Queue of
+	 * this Delayed Batch Executor has not room enough for all of the arguments.
+	 * <br>
+	 * It will throw an {@link IllegalArgumentException} if the lists of
+	 * arguments do not have the same size <br>
+	 * If a {@link RuntimeException} is thrown inside of the
+	 * {@link BatchCallBack7 } for any of the arguments, then it will be the
+	 * cause of the checked Exception {@link ExecutionException} thrown by
+	 * {@link Future#get()} as per contract of {@link Future#get()} <br>
+	 * <br>
+	 * 
+	 * @param arg1List values of the first argument of type A defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg2List values of the second argument of type B defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg3List values of the third argument of type C defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg4List values of the fourth argument of type D defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg5List values of the fifth argument of type E defined for this
+	 *                 Delayed Batch Executor
+	 * @param arg6List values of the sixth argument of type F defined for this
+	 *                 Delayed Batch Executor
+	 * @return a {@link Future } for the list of results of type Z
+	 *
+	 */
+	public Future<List<Z>> executeAllAsFuture(List<A> arg1List, List<B> arg2List, List<C> arg3List, List<D> arg4List,
+			List<E> arg5List, List<F> arg6List) {
+		TupleListFuture<Z> tupleListFuture = enlistTupleListFuture(arg1List, arg2List, arg3List, arg4List, arg5List,
+				arg6List);
+		Future<List<Z>> future = tupleListFuture.getFuture();
+		return future;
+	}
+
+	private static <Z, A, B, C, D, E, F> StreamingBatchCallBack7<Z, A, B, C, D, E, F> toStreamingBatchCallBack(
+			BatchCallBack7<Z, A, B, C, D, E, F> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, fourthParam, fifthParam, sixthParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam, fourthParam, fifthParam, sixthParam));
+	}
+
+	private static <Z, A, B, C, D, E, F> StreamingBatchCallBack7<Z, A, B, C, D, E, F> asyncToStreamingBatchCallBack(
+			AsyncBatchCallBack7<Z, A, B, C, D, E, F> batchCallBack) {
+		return (firstParam, secondParam, thirdParam, fourthParam, fifthParam, sixthParam, resultSink) -> resultSink
+				.completeWith(batchCallBack.apply(
+						firstParam, secondParam, thirdParam, fourthParam, fifthParam, sixthParam));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	protected List<Z> getResultListFromBatchCallBack(List<List<Object>> transposedTupleList) {
-		return batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
+	protected void invokeBatchCallBack(List<List<Object>> transposedTupleList, BatchResultSink<Z> resultSink) {
+		batchCallBack.apply((List<A>) transposedTupleList.get(0), (List<B>) transposedTupleList.get(1),
 				(List<C>) transposedTupleList.get(2), (List<D>) transposedTupleList.get(3),
-				(List<E>) transposedTupleList.get(4), (List<F>) transposedTupleList.get(5));
+				(List<E>) transposedTupleList.get(4), (List<F>) transposedTupleList.get(5), resultSink);
 	}
 }
\ No newline at end of file
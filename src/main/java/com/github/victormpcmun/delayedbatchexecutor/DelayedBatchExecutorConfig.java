@@ -0,0 +1,964 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Configuration parameters of a Delayed Batch Executor, to be passed to the
+ * factory methods taking a {@link DelayedBatchExecutorConfig}. Only the
+ * {@link Duration} and the maxSize are mandatory, the rest of parameters
+ * default to the same values as the short factory methods: <br>
+ * <br>
+ * -executorService: null, so the default one is created <br>
+ * -bufferQueueSize: the value of constant
+ * {@link DelayedBatchExecutor#DEFAULT_BUFFER_QUEUE_SIZE} <br>
+ * -removeDuplicates: true <br>
+ * -removeDuplicatesOnEnlist: false <br>
+ * -countDistinctArguments: false <br>
+ * -keyExtractor: null, so the key is the list of all of the arguments <br>
+ * -identityKeys: false <br>
+ * -weigher: null, so the weight of each invocation is 1 <br>
+ * -maxWeight: {@link Long#MAX_VALUE}, so there is no limit of weight <br>
+ * -maxSubBatches: 1, so the batches are not split <br>
+ * -idleDispatch: false <br>
+ * -flushPolicy: {@link FlushPolicy#sizeOrTime()} <br>
+ * -maxConcurrentBatches: {@link Integer#MAX_VALUE}, so there is no limit <br>
+ * -maxCoalescedSize: 0, so the batches are not coalesced <br>
+ * -partitioner: null, so the invocations are not partitioned <br>
+ * -partitionAffinity: false <br>
+ * -leaderFollower: false <br>
+ * -waitStrategy: {@link WaitStrategy#PARK} <br>
+ * -completionExecutorService: null, so the results are delivered by the
+ * thread executing the batchCallBack <br>
+ * -rateLimit: 0, so there is no limit of executions per second <br>
+ * -rateLimitBurst: 1 <br>
+ * -queueDelayTarget: null, so there is no load shedding <br>
+ * -queueDelayInterval: 100 milliseconds <br>
+ * -tenantExtractor: null, so there is no fairness between tenants <br>
+ * -maxPendingPerTenant: {@link Integer#MAX_VALUE}, so there is no limit <br>
+ *
+ * <pre>
+ * {@code
+ * DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100)
+ *     .withBufferQueueSize(1000)
+ *     .withRemoveDuplicatesOnEnlist(true);
+ *
+ * DelayedBatchExecutor2<String,Integer> dbe = DelayedBatchExecutor2.create(config, this::myBatchCallback);
+ * }
+ * </pre>
+ *
+ * The parameters are copied by the Delayed Batch Executor when it is created,
+ * so further changes to this instance do not affect it <br>
+ *
+ * @author Victor Porcar
+ *
+ */
+public class DelayedBatchExecutorConfig {
+
+	private final Duration duration;
+	private final int maxSize;
+	private ExecutorService executorService;
+	private int bufferQueueSize;
+	private boolean removeDuplicates;
+	private boolean removeDuplicatesOnEnlist;
+	private boolean countDistinctArguments;
+	private Function<List<Object>, Object> keyExtractor;
+	private boolean identityKeys;
+	private ToIntFunction<List<Object>> weigher;
+	private long maxWeight;
+	private int maxSubBatches;
+	private int minSubBatchSize;
+	private boolean idleDispatch;
+	private FlushPolicy flushPolicy;
+	private int maxConcurrentBatches;
+	private int maxCoalescedSize;
+	private Function<List<Object>, Object> partitioner;
+	private Map<Object, DelayedBatchExecutorConfig> partitionConfigMap;
+	private boolean partitionAffinity;
+	private boolean leaderFollower;
+	private WaitStrategy waitStrategy;
+	private ExecutorService completionExecutorService;
+	private int completionChunkSize;
+	private double rateLimit;
+	private int rateLimitBurst;
+	private Duration queueDelayTarget;
+	private Duration queueDelayInterval;
+	private Function<List<Object>, Object> tenantExtractor;
+	private int maxPendingPerTenant;
+
+	/**
+	 * Factory method to create the configuration of a Delayed Batch Executor with
+	 * the given time window and max size
+	 *
+	 * @param duration the time window, defined as {@link Duration }.
+	 * @param maxSize  the max collected size. As soon as the count of collected
+	 *                 parameters reaches this size, the batchCallBack method is
+	 *                 executed
+	 * @return an instance of {@link DelayedBatchExecutorConfig}
+	 *
+	 */
+	public static DelayedBatchExecutorConfig create(Duration duration, int maxSize) {
+		return new DelayedBatchExecutorConfig(duration, maxSize);
+	}
+
+	private DelayedBatchExecutorConfig(Duration duration, int maxSize) {
+		this.duration = duration;
+		this.maxSize = maxSize;
+		this.executorService = null;
+		this.bufferQueueSize = DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE;
+		this.removeDuplicates = true;
+		this.removeDuplicatesOnEnlist = false;
+		this.countDistinctArguments = false;
+		this.keyExtractor = null;
+		this.identityKeys = false;
+		this.weigher = null;
+		this.maxWeight = Long.MAX_VALUE;
+		this.maxSubBatches = 1;
+		this.minSubBatchSize = 1;
+		this.idleDispatch = false;
+		this.flushPolicy = FlushPolicy.sizeOrTime();
+		this.maxConcurrentBatches = Integer.MAX_VALUE;
+		this.maxCoalescedSize = 0;
+		this.partitioner = null;
+		this.partitionConfigMap = new LinkedHashMap<>();
+		this.partitionAffinity = false;
+		this.leaderFollower = false;
+		this.waitStrategy = WaitStrategy.PARK;
+		this.completionExecutorService = null;
+		this.completionChunkSize = Integer.MAX_VALUE;
+		this.rateLimit = 0;
+		this.rateLimitBurst = 1;
+		this.queueDelayTarget = null;
+		this.queueDelayInterval = Duration.ofMillis(100);
+		this.tenantExtractor = null;
+		this.maxPendingPerTenant = Integer.MAX_VALUE;
+	}
+
+	private DelayedBatchExecutorConfig(DelayedBatchExecutorConfig config, Duration duration, int maxSize) {
+		this.duration = duration;
+		this.maxSize = maxSize;
+		this.executorService = config.executorService;
+		this.bufferQueueSize = config.bufferQueueSize;
+		this.removeDuplicates = config.removeDuplicates;
+		this.removeDuplicatesOnEnlist = config.removeDuplicatesOnEnlist;
+		this.countDistinctArguments = config.countDistinctArguments;
+		this.keyExtractor = config.keyExtractor;
+		this.identityKeys = config.identityKeys;
+		this.weigher = config.weigher;
+		this.maxWeight = config.maxWeight;
+		this.maxSubBatches = config.maxSubBatches;
+		this.minSubBatchSize = config.minSubBatchSize;
+		this.idleDispatch = config.idleDispatch;
+		this.flushPolicy = config.flushPolicy;
+		this.maxConcurrentBatches = config.maxConcurrentBatches;
+		this.maxCoalescedSize = config.maxCoalescedSize;
+		this.partitioner = config.partitioner;
+		this.partitionConfigMap = new LinkedHashMap<>(config.partitionConfigMap);
+		this.partitionAffinity = config.partitionAffinity;
+		this.leaderFollower = config.leaderFollower;
+		this.waitStrategy = config.waitStrategy;
+		this.completionExecutorService = config.completionExecutorService;
+		this.completionChunkSize = config.completionChunkSize;
+		this.rateLimit = config.rateLimit;
+		this.rateLimitBurst = config.rateLimitBurst;
+		this.queueDelayTarget = config.queueDelayTarget;
+		this.queueDelayInterval = config.queueDelayInterval;
+		this.tenantExtractor = config.tenantExtractor;
+		this.maxPendingPerTenant = config.maxPendingPerTenant;
+	}
+
+	/**
+	 * Set the pool of threads to execute the batchCallBack method in asynchronous
+	 * mode. If it is null, the default one is created (see
+	 * {@link DelayedBatchExecutor#DEFAULT_FIXED_THREAD_POOL_COUNTER})
+	 *
+	 * @param executorService the {@link ExecutorService}
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+		return this;
+	}
+
+	/**
+	 * Set the max size of the internal queue to buffer values
+	 *
+	 * @param bufferQueueSize max size of the internal queue to buffer values
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withBufferQueueSize(int bufferQueueSize) {
+		this.bufferQueueSize = bufferQueueSize;
+		return this;
+	}
+
+	/**
+	 * Set whether duplicated arguments from execute*(...) methods are passed to
+	 * the batchCallBack (considering same {@link Object#hashCode()} and being
+	 * {@link Object#equals(Object)})
+	 *
+	 * @param removeDuplicates if true then the duplicated arguments within a batch
+	 *                         are not passed to the batchCallBack
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withRemoveDuplicates(boolean removeDuplicates) {
+		this.removeDuplicates = removeDuplicates;
+		return this;
+	}
+
+	/**
+	 * Set whether duplicated arguments are removed as soon as they are enlisted
+	 * by the execute*(...) methods: an invocation whose arguments are already
+	 * waiting in the current time window is attached to the waiting one and
+	 * given its result, so it takes neither a place in the internal buffer queue
+	 * nor in the maxSize of the batch
+	 *
+	 * @param removeDuplicatesOnEnlist if true then duplicated arguments are
+	 *                                 removed when they are enlisted
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withRemoveDuplicatesOnEnlist(boolean removeDuplicatesOnEnlist) {
+		this.removeDuplicatesOnEnlist = removeDuplicatesOnEnlist;
+		return this;
+	}
+
+	/**
+	 * Set whether the maxSize is compared with the count of distinct arguments
+	 * collected in the time window instead of the count of invocations, so the
+	 * batchCallBack receives maxSize arguments once the duplicated ones are
+	 * removed (see {@link #withRemoveDuplicates(boolean)}) no matter how many
+	 * duplicated invocations there are
+	 *
+	 * @param countDistinctArguments if true then only the distinct arguments
+	 *                               are counted to reach the maxSize
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withCountDistinctArguments(boolean countDistinctArguments) {
+		this.countDistinctArguments = countDistinctArguments;
+		return this;
+	}
+
+	/**
+	 * Set how the key of the arguments of each invocation is obtained. Two
+	 * invocations are duplicated if their keys are equal (considering same
+	 * {@link Object#hashCode()} and being {@link Object#equals(Object)}), so
+	 * only the arguments identifying the result need to be hashed and compared.
+	 * The key is also used by
+	 * {@link BatchResultSink#emitForArguments(Object, Object...)} and
+	 * {@link BatchResultSink#emitForKey(Object, Object)} to match the results
+	 *
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100).withKeyExtractor(arguments -> arguments.get(0));
+	 * }
+	 * </pre>
+	 *
+	 * @param keyExtractor the function receiving the arguments of an
+	 *                     invocation (in the same order as in the
+	 *                     execute*(...) methods) and returning its key. If it
+	 *                     is null, the key is the list of all of the arguments
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withKeyExtractor(Function<List<Object>, Object> keyExtractor) {
+		this.keyExtractor = keyExtractor;
+		return this;
+	}
+
+	/**
+	 * Set whether the keys are compared by reference instead of by
+	 * {@link Object#equals(Object)}, so neither equals(...) nor hashCode() of the
+	 * arguments are invoked. Suitable when the same instances are used as
+	 * arguments, i.e. interned or cached values
+	 *
+	 * @param identityKeys if true then the keys are compared by reference
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withIdentityKeys(boolean identityKeys) {
+		this.identityKeys = identityKeys;
+		return this;
+	}
+
+	/**
+	 * Set the max weight of the arguments passed to each execution of the
+	 * batchCallBack, given the function weighing the arguments of each
+	 * invocation (i.e. the count of bind parameters or the bytes of the
+	 * payload). The batchCallBack is executed as soon as either the maxSize or
+	 * the maxWeight is reached, and an invocation that would exceed the
+	 * maxWeight is left for the next execution. An invocation weighing more
+	 * than maxWeight is passed alone
+	 *
+	 * <pre>
+	 * {@code
+	 * // 4 bind parameters per invocation, up to the 65535 of Postgres
+	 * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100000).withMaxWeight(arguments -> 4, 65535);
+	 * }
+	 * </pre>
+	 *
+	 * @param weigher   the function receiving the arguments of an invocation (in
+	 *                  the same order as in the execute*(...) methods) and
+	 *                  returning its weight, which can not be negative
+	 * @param maxWeight the max sum of the weights of the arguments passed to
+	 *                  the batchCallBack
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withMaxWeight(ToIntFunction<List<Object>> weigher, long maxWeight) {
+		this.weigher = weigher;
+		this.maxWeight = maxWeight;
+		return this;
+	}
+
+	/**
+	 * Set how a large batch is split in sub-batches to be passed concurrently to
+	 * several executions of the batchCallBack by the threads of the
+	 * executorService, so a spike of invocations does not end in a single slow
+	 * execution. A batch is split in as many sub-batches as possible up to
+	 * maxSubBatches, each one of them with at least minSubBatchSize arguments
+	 * and roughly the same weight (see
+	 * {@link #withMaxWeight(ToIntFunction, long)}) or the same size if there is
+	 * no weigher. Each invocation is given its result as soon as its sub-batch
+	 * finishes
+	 *
+	 * @param maxSubBatches   the max number of sub-batches a batch is split in
+	 * @param minSubBatchSize the min count of arguments of each sub-batch
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withSubBatches(int maxSubBatches, int minSubBatchSize) {
+		this.maxSubBatches = maxSubBatches;
+		this.minSubBatchSize = minSubBatchSize;
+		return this;
+	}
+
+	/**
+	 * Set whether the invocations are dispatched without waiting for the time
+	 * window when no execution of the batchCallBack is in flight: the first
+	 * invocation received while the Delayed Batch Executor is idle is passed to
+	 * the batchCallBack right away, and the invocations received while there are
+	 * executions in flight are collected and passed to the batchCallBack as soon
+	 * as one of them finishes (or when the time window or the maxSize is
+	 * reached). So the latency under low traffic is not increased by the time
+	 * window, while the batches still grow with the load
+	 *
+	 * @param idleDispatch if true then the invocations are dispatched right away
+	 *                     when nothing is in flight
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withIdleDispatch(boolean idleDispatch) {
+		this.idleDispatch = idleDispatch;
+		return this;
+	}
+
+	/**
+	 * Set the policy deciding when the collected invocations are passed to the
+	 * batchCallBack, so the trade-off between throughput and latency can be
+	 * tuned (see {@link FlushPolicy}). Regardless of the policy, the batches never
+	 * exceed the maxSize nor the maxWeight
+	 *
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 500)
+	 *     .withFlushPolicy(FlushPolicy.linger(50, Duration.ofMillis(20)));
+	 * }
+	 * </pre>
+	 *
+	 * @param flushPolicy the {@link FlushPolicy}
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withFlushPolicy(FlushPolicy flushPolicy) {
+		this.flushPolicy = flushPolicy;
+		return this;
+	}
+
+	/**
+	 * Set the max count of batches passed to the batchCallBack which can be in
+	 * flight at the same time (for each partition if there is a partitioner).
+	 * The batches exceeding it wait, taking space in the internal buffer queue,
+	 * until one of the batches in flight finishes
+	 *
+	 * @param maxConcurrentBatches the max count of batches in flight
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withMaxConcurrentBatches(int maxConcurrentBatches) {
+		this.maxConcurrentBatches = maxConcurrentBatches;
+		return this;
+	}
+
+	/**
+	 * Set the max size of the batch resulting from coalescing the batches which
+	 * wait for maxConcurrentBatches (see {@link #withMaxConcurrentBatches(int)}).
+	 * When more batches are waiting than can be dispatched, they are coalesced
+	 * in order (without exceeding maxWeight) before being passed to the
+	 * batchCallBack, so under overload there are fewer and larger executions of
+	 * the batchCallBack. Setting maxConcurrentBatches to the count of threads of
+	 * the executorService keeps the waiting batches out of its queue, so they
+	 * can be coalesced
+	 *
+	 * @param maxCoalescedSize the max count of invocations of a coalesced batch,
+	 *                         0 not to coalesce
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withMaxCoalescedSize(int maxCoalescedSize) {
+		this.maxCoalescedSize = maxCoalescedSize;
+		return this;
+	}
+
+	/**
+	 * Set the function routing each invocation to a partition (i.e. the shard of
+	 * the database holding its arguments). The invocations of each partition are
+	 * collected in their own time window, so every execution of the
+	 * batchCallBack receives the arguments of a single partition and the
+	 * partitions are executed concurrently. Each partition has its own internal
+	 * buffer queue of bufferQueueSize and its own maxConcurrentBatches, and
+	 * takes the duration and maxSize of the Delayed Batch Executor unless they
+	 * are set by {@link #withPartition(Object, Duration, int, int)}. Invocations
+	 * enlisted all together are enlisted all together in each partition <br>
+	 * <br>
+	 * The partitions are created when their first invocation arrives and are
+	 * never removed until the Delayed Batch Executor is closed (with partition
+	 * affinity, each one keeps its own thread), so the partitioner must return a
+	 * small bounded set of values, i.e. a shard number rather than a user id
+	 *
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100).withPartitioner(arguments -> (Long) arguments.get(0) % 16);
+	 * }
+	 * </pre>
+	 *
+	 * @param partitioner the function receiving the arguments of an invocation
+	 *                    (in the same order as in the execute*(...) methods) and
+	 *                    returning its partition, which is compared by
+	 *                    {@link Object#equals(Object)}. If it is null, the
+	 *                    invocations are not partitioned
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withPartitioner(Function<List<Object>, Object> partitioner) {
+		this.partitioner = partitioner;
+		return this;
+	}
+
+	/**
+	 * Set the time window, max size and max count of batches in flight of the
+	 * given partition (see {@link #withPartitioner(Function)}), instead of the
+	 * ones of the Delayed Batch Executor. They are not changed by
+	 * updateConfig(...)
+	 *
+	 * @param partition            the partition, as returned by the partitioner
+	 * @param duration             the time window of the partition
+	 * @param maxSize              the max collected size of the partition
+	 * @param maxConcurrentBatches the max count of batches of the partition in
+	 *                             flight
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withPartition(Object partition, Duration duration, int maxSize,
+			int maxConcurrentBatches) {
+		partitionConfigMap.put(partition, create(duration, maxSize).withMaxConcurrentBatches(maxConcurrentBatches));
+		return this;
+	}
+
+	/**
+	 * Set whether the batches of each partition (see
+	 * {@link #withPartitioner(Function)}) are executed by a thread dedicated to
+	 * the partition instead of by the executorService, so the thread local
+	 * resources (i.e. the connection to the shard) are reused. The batches of a
+	 * partition are then executed one after another, unless the batchCallBack is
+	 * asynchronous
+	 *
+	 * @param partitionAffinity if true then each partition is pinned to its own
+	 *                          thread
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withPartitionAffinity(boolean partitionAffinity) {
+		this.partitionAffinity = partitionAffinity;
+		return this;
+	}
+
+	/**
+	 * Set whether each batch is executed by one of the threads blocked in the
+	 * execute(...) method waiting for the result of the batch (the leader)
+	 * instead of by a thread of the executorService, so there is no hand-off
+	 * between threads. The rest of threads blocked (the followers) are given
+	 * their result as soon as the leader gets it. The batches without blocked
+	 * threads (i.e. only from executeAsFuture(...) or executeAsMono(...)) and
+	 * the sub-batches are still executed by the executorService
+	 *
+	 * @param leaderFollower if true then the batches are executed by their
+	 *                       blocked invoking threads
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withLeaderFollower(boolean leaderFollower) {
+		this.leaderFollower = leaderFollower;
+		return this;
+	}
+
+	/**
+	 * Set how the threads waiting for their result in execute(...) or in the
+	 * get() method of the {@link java.util.concurrent.Future} returned by
+	 * executeAsFuture(...) wait for it, trading CPU for latency (see
+	 * {@link WaitStrategy})
+	 *
+	 * @param waitStrategy the {@link WaitStrategy}
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withWaitStrategy(WaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+		return this;
+	}
+
+	/**
+	 * Set the pool of threads delivering the results of the batchCallBack to the
+	 * waiting invocations, so the thread executing the batchCallBack is released
+	 * as soon as it returns the list of results. The results of a batch are
+	 * delivered concurrently in chunks of completionChunkSize, so the
+	 * invocations of large batches do not wait for the ones before them. The
+	 * results emitted one by one to the {@link BatchResultSink} and the errors
+	 * are delivered by it as well, so the thread emitting them does not execute
+	 * the continuations of the invocations
+	 *
+	 * @param completionExecutorService the {@link ExecutorService} delivering
+	 *                                  the results. If it is null, they are
+	 *                                  delivered by the thread executing the
+	 *                                  batchCallBack
+	 * @param completionChunkSize       the max count of results delivered by
+	 *                                  each task of the
+	 *                                  completionExecutorService
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withCompletionExecutorService(ExecutorService completionExecutorService,
+			int completionChunkSize) {
+		this.completionExecutorService = completionExecutorService;
+		this.completionChunkSize = completionChunkSize;
+		return this;
+	}
+
+	/**
+	 * Set a limit of executions of the batchCallBack per second (i.e. the limit
+	 * of calls of a remote API), applied by a token bucket shared by all of the
+	 * partitions. While the limit is reached, the time window is not closed when
+	 * it elapses, so the invocations keep on being collected in a bigger batch
+	 * until the maxSize or the maxWeight is reached, instead of exceeding the
+	 * limit. It can not be combined with sub-batches (see
+	 * {@link #withSubBatches(int, int)})
+	 *
+	 * @param rateLimit      the max executions of the batchCallBack per second,
+	 *                       0 for no limit
+	 * @param rateLimitBurst the max executions of the batchCallBack allowed at
+	 *                       once after a period without them
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withRateLimit(double rateLimit, int rateLimitBurst) {
+		this.rateLimit = rateLimit;
+		this.rateLimitBurst = rateLimitBurst;
+		return this;
+	}
+
+	/**
+	 * Set the load shedding of the new invocations when the batchCallBack can not
+	 * keep up (i.e. a degraded database). The queue delay of a batch is the time
+	 * waited by its oldest invocation until the batchCallBack is executed for it,
+	 * so the target must be longer than the time window. It is also checked
+	 * against the time waited so far by the oldest buffered invocation when new
+	 * ones arrive, so the load is shed even if the batchCallBack hangs. Once it
+	 * has been above the target for a whole interval, the new invocations are
+	 * rejected right away with a
+	 * {@link java.util.concurrent.RejectedExecutionException} until it is below
+	 * the target again or the buffer is drained, so the accepted ones keep their
+	 * latency instead of all of them timing out together
+	 *
+	 * @param queueDelayTarget   the acceptable queue delay, null for no load
+	 *                           shedding
+	 * @param queueDelayInterval the time the queue delay must stay above the
+	 *                           target before shedding load
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withQueueDelayTarget(Duration queueDelayTarget, Duration queueDelayInterval) {
+		this.queueDelayTarget = queueDelayTarget;
+		this.queueDelayInterval = queueDelayInterval;
+		return this;
+	}
+
+	/**
+	 * Set the fairness between the tenants sharing this Delayed Batch Executor,
+	 * so the bulk invocations of a tenant do not starve the rest of them. When
+	 * batches wait to be executed (see {@link #withMaxConcurrentBatches(int)}
+	 * and {@link #withRateLimit(double, int)}), their invocations are
+	 * distributed again by deficit round-robin between the tenants, so each
+	 * waiting tenant gets its share of the next batch no matter how many
+	 * invocations the others enlisted before. Besides, the invocations of a
+	 * tenant beyond maxPendingPerTenant waiting for the batchCallBack are
+	 * rejected with a {@link java.util.concurrent.RejectedExecutionException}
+	 *
+	 * <pre>
+	 * {@code
+	 * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100).withMaxConcurrentBatches(2).withTenantFairness(arguments -> arguments.get(1), 1000);
+	 * }
+	 * </pre>
+	 *
+	 * @param tenantExtractor     the function receiving the arguments of an
+	 *                            invocation (in the same order as in the
+	 *                            execute*(...) methods) and returning its
+	 *                            tenant, which is compared by
+	 *                            {@link Object#equals(Object)}. If it is null,
+	 *                            there is no fairness between tenants
+	 * @param maxPendingPerTenant the max count of invocations of a tenant
+	 *                            waiting for the batchCallBack
+	 * @return this instance
+	 *
+	 */
+	public DelayedBatchExecutorConfig withTenantFairness(Function<List<Object>, Object> tenantExtractor,
+			int maxPendingPerTenant) {
+		this.tenantExtractor = tenantExtractor;
+		this.maxPendingPerTenant = maxPendingPerTenant;
+		return this;
+	}
+
+	/**
+	 * The time window
+	 *
+	 * @return the {@link Duration} of the time window
+	 *
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * The max collected size
+	 *
+	 * @return the max collected size
+	 *
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * The pool of threads to execute the batchCallBack method
+	 *
+	 * @return the {@link ExecutorService}, null if the default one is to be
+	 *         created
+	 *
+	 */
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	/**
+	 * The max size of the internal queue to buffer values
+	 *
+	 * @return the max size of the internal queue to buffer values
+	 *
+	 */
+	public int getBufferQueueSize() {
+		return bufferQueueSize;
+	}
+
+	/**
+	 * The removeDuplicates behaviour flag
+	 *
+	 * @return the removeDuplicates behaviour flag
+	 *
+	 */
+	public boolean isRemoveDuplicates() {
+		return removeDuplicates;
+	}
+
+	/**
+	 * The removeDuplicatesOnEnlist behaviour flag
+	 *
+	 * @return the removeDuplicatesOnEnlist behaviour flag
+	 *
+	 */
+	public boolean isRemoveDuplicatesOnEnlist() {
+		return removeDuplicatesOnEnlist;
+	}
+
+	/**
+	 * The countDistinctArguments behaviour flag
+	 *
+	 * @return the countDistinctArguments behaviour flag
+	 *
+	 */
+	public boolean isCountDistinctArguments() {
+		return countDistinctArguments;
+	}
+
+	/**
+	 * The function obtaining the key of the arguments of an invocation
+	 *
+	 * @return the key extractor, null if the key is the list of all of the
+	 *         arguments
+	 *
+	 */
+	public Function<List<Object>, Object> getKeyExtractor() {
+		return keyExtractor;
+	}
+
+	/**
+	 * The identityKeys behaviour flag
+	 *
+	 * @return the identityKeys behaviour flag
+	 *
+	 */
+	public boolean isIdentityKeys() {
+		return identityKeys;
+	}
+
+	/**
+	 * The function weighing the arguments of an invocation
+	 *
+	 * @return the weigher, null if the weight of each invocation is 1
+	 *
+	 */
+	public ToIntFunction<List<Object>> getWeigher() {
+		return weigher;
+	}
+
+	/**
+	 * The max weight of the arguments passed to each execution of the
+	 * batchCallBack
+	 *
+	 * @return the max weight
+	 *
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * The max number of sub-batches a batch is split in
+	 *
+	 * @return the max number of sub-batches
+	 *
+	 */
+	public int getMaxSubBatches() {
+		return maxSubBatches;
+	}
+
+	/**
+	 * The min count of arguments of each sub-batch
+	 *
+	 * @return the min count of arguments of each sub-batch
+	 *
+	 */
+	public int getMinSubBatchSize() {
+		return minSubBatchSize;
+	}
+
+	/**
+	 * The idleDispatch behaviour flag
+	 *
+	 * @return the idleDispatch behaviour flag
+	 *
+	 */
+	public boolean isIdleDispatch() {
+		return idleDispatch;
+	}
+
+	/**
+	 * The policy deciding when the collected invocations are passed to the
+	 * batchCallBack
+	 *
+	 * @return the {@link FlushPolicy}
+	 *
+	 */
+	public FlushPolicy getFlushPolicy() {
+		return flushPolicy;
+	}
+
+	/**
+	 * The max count of batches in flight at the same time
+	 *
+	 * @return the max count of batches in flight
+	 *
+	 */
+	public int getMaxConcurrentBatches() {
+		return maxConcurrentBatches;
+	}
+
+	/**
+	 * The max size of the batch resulting from coalescing the waiting batches
+	 *
+	 * @return the max coalesced size, 0 if the batches are not coalesced
+	 *
+	 */
+	public int getMaxCoalescedSize() {
+		return maxCoalescedSize;
+	}
+
+	/**
+	 * The function routing each invocation to a partition
+	 *
+	 * @return the partitioner, null if the invocations are not partitioned
+	 *
+	 */
+	public Function<List<Object>, Object> getPartitioner() {
+		return partitioner;
+	}
+
+	/**
+	 * The partitionAffinity behaviour flag
+	 *
+	 * @return the partitionAffinity behaviour flag
+	 *
+	 */
+	public boolean isPartitionAffinity() {
+		return partitionAffinity;
+	}
+
+	/**
+	 * The leaderFollower behaviour flag
+	 *
+	 * @return the leaderFollower behaviour flag
+	 *
+	 */
+	public boolean isLeaderFollower() {
+		return leaderFollower;
+	}
+
+	/**
+	 * How the threads waiting for their result wait for it
+	 *
+	 * @return the {@link WaitStrategy}
+	 *
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * The pool of threads delivering the results of the batchCallBack
+	 *
+	 * @return the {@link ExecutorService}, null if the results are delivered by
+	 *         the thread executing the batchCallBack
+	 *
+	 */
+	public ExecutorService getCompletionExecutorService() {
+		return completionExecutorService;
+	}
+
+	/**
+	 * The max count of results delivered by each task of the
+	 * completionExecutorService
+	 *
+	 * @return the completion chunk size
+	 *
+	 */
+	public int getCompletionChunkSize() {
+		return completionChunkSize;
+	}
+
+	/**
+	 * The max executions of the batchCallBack per second
+	 *
+	 * @return the rate limit, 0 if there is no limit
+	 *
+	 */
+	public double getRateLimit() {
+		return rateLimit;
+	}
+
+	/**
+	 * The max executions of the batchCallBack allowed at once after a period
+	 * without them
+	 *
+	 * @return the rate limit burst
+	 *
+	 */
+	public int getRateLimitBurst() {
+		return rateLimitBurst;
+	}
+
+	/**
+	 * The acceptable queue delay before shedding load
+	 *
+	 * @return the queue delay target, null if there is no load shedding
+	 *
+	 */
+	public Duration getQueueDelayTarget() {
+		return queueDelayTarget;
+	}
+
+	/**
+	 * The time the queue delay must stay above the target before shedding load
+	 *
+	 * @return the queue delay interval
+	 *
+	 */
+	public Duration getQueueDelayInterval() {
+		return queueDelayInterval;
+	}
+
+	/**
+	 * The function returning the tenant of the arguments of an invocation
+	 *
+	 * @return the tenant extractor, null if there is no fairness between tenants
+	 *
+	 */
+	public Function<List<Object>, Object> getTenantExtractor() {
+		return tenantExtractor;
+	}
+
+	/**
+	 * The max count of invocations of a tenant waiting for the batchCallBack
+	 *
+	 * @return the max pending invocations per tenant
+	 *
+	 */
+	public int getMaxPendingPerTenant() {
+		return maxPendingPerTenant;
+	}
+
+	/**
+	 * the configurations set by withPartition(...), holding only the duration,
+	 * maxSize and maxConcurrentBatches
+	 */
+	Map<Object, DelayedBatchExecutorConfig> getPartitionConfigMap() {
+		return Collections.unmodifiableMap(partitionConfigMap);
+	}
+
+	/**
+	 * the configuration of the given partition: this one with the duration,
+	 * maxSize and maxConcurrentBatches set by withPartition(...), if any
+	 */
+	DelayedBatchExecutorConfig getPartitionConfig(Object partition) {
+		DelayedBatchExecutorConfig partitionConfig = partitionConfigMap.get(partition);
+		if (partitionConfig == null) {
+			return this;
+		}
+		return new DelayedBatchExecutorConfig(this, partitionConfig.duration, partitionConfig.maxSize)
+				.withMaxConcurrentBatches(partitionConfig.maxConcurrentBatches);
+	}
+
+	/**
+	 * a copy of this configuration, so further changes to this instance do not
+	 * affect it
+	 */
+	DelayedBatchExecutorConfig copy() {
+		return new DelayedBatchExecutorConfig(this, duration, maxSize);
+	}
+}
@@ -0,0 +1,366 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group of Delayed Batch Executors sharing a single pool of threads to execute
+ * their batchCallBack methods, with a global limit of concurrent executions.
+ * <br>
+ * <br>
+ * Each member of the group is given its own {@link ExecutorService} view
+ * (see {@link #newMemberExecutorService(int)}) to be passed to the factory
+ * methods of the Delayed Batch Executors. When all of the executions allowed by
+ * the global limit are in progress, the pending batchCallBack executions are
+ * queued and dispatched by weighted fair queuing between the members, so a
+ * member that queues many executions can not starve the others. An execution
+ * takes its place in the global limit until its batch has finished, even if
+ * the batchCallBack is asynchronous and returns right away <br>
+ * <br>
+ * Alternatively, the queued executions can be dispatched earliest deadline
+ * first (see {@link #create(int, int, boolean)}), the deadline of a batch being
+ * the time its oldest invocation was enlisted plus the time window of its
+ * Delayed Batch Executor, so the pool always executes first the batch closest
+ * to exceeding its latency <br>
+ *
+ * <pre>
+ * {@code
+ * DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(8);
+ *
+ * DelayedBatchExecutor2<String,Integer> dbe1 = DelayedBatchExecutor2.create(Duration.ofMillis(50), 10, group.newMemberExecutorService(1), DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true, this::myBatchCallback1);
+ * DelayedBatchExecutor2<String,Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(50), 10, group.newMemberExecutorService(3), DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true, this::myBatchCallback2);
+ * }
+ * </pre>
+ *
+ * @author Victor Porcar
+ *
+ */
+public class DelayedBatchExecutorGroup implements AutoCloseable {
+
+	private static final String TO_STRING_FORMAT = "DelayedBatchExecutorGroup {threads=%d, maxConcurrentCallBacks=%d, runningCallBacks=%d, queuedCallBacks=%d}";
+
+	/**
+	 * {@value com.github.victormpcmun.delayedbatchexecutor.DelayedBatchExecutorGroup#DEFAULT_GROUP_THREAD_NAME_PREFIX}
+	 */
+	public static final String DEFAULT_GROUP_THREAD_NAME_PREFIX = "delayed-batch-executor-group-";
+
+	private final int threads;
+	private final int maxConcurrentCallBacks;
+	private final boolean earliestDeadlineFirst;
+	private final ExecutorService workerPool;
+	private final PriorityQueue<GroupTask> queuedTasks;
+	private int runningCallBacks;
+	private double virtualTime;
+	private long sequence;
+	private boolean closed;
+
+	/**
+	 * Factory method to create a group whose pool has the given number of threads,
+	 * which is also the max number of concurrent executions of batchCallBack
+	 * methods
+	 *
+	 * @param threads number of threads of the pool of the group
+	 * @return an instance of {@link DelayedBatchExecutorGroup}
+	 *
+	 */
+	public static DelayedBatchExecutorGroup create(int threads) {
+		return new DelayedBatchExecutorGroup(threads, threads, false);
+	}
+
+	/**
+	 * Factory method to create a group
+	 *
+	 * @param threads                number of threads of the pool of the group
+	 * @param maxConcurrentCallBacks max number of batchCallBack methods of all of
+	 *                               the members executed at the same time, not
+	 *                               greater than the threads (otherwise the
+	 *                               executions would wait in the pool and not
+	 *                               in the queue of the group)
+	 * @return an instance of {@link DelayedBatchExecutorGroup}
+	 *
+	 */
+	public static DelayedBatchExecutorGroup create(int threads, int maxConcurrentCallBacks) {
+		return new DelayedBatchExecutorGroup(threads, maxConcurrentCallBacks, false);
+	}
+
+	/**
+	 * Factory method to create a group
+	 *
+	 * @param threads                number of threads of the pool of the group
+	 * @param maxConcurrentCallBacks max number of batchCallBack methods of all of
+	 *                               the members executed at the same time, not
+	 *                               greater than the threads
+	 * @param earliestDeadlineFirst  if true, the queued executions are dispatched
+	 *                               in the order of the deadlines of their
+	 *                               batches, no matter the member, instead of by
+	 *                               weighted fair queuing
+	 * @return an instance of {@link DelayedBatchExecutorGroup}
+	 *
+	 */
+	public static DelayedBatchExecutorGroup create(int threads, int maxConcurrentCallBacks,
+			boolean earliestDeadlineFirst) {
+		return new DelayedBatchExecutorGroup(threads, maxConcurrentCallBacks, earliestDeadlineFirst);
+	}
+
+	private DelayedBatchExecutorGroup(int threads, int maxConcurrentCallBacks, boolean earliestDeadlineFirst) {
+		if (threads < 1 || maxConcurrentCallBacks < 1 || maxConcurrentCallBacks > threads) {
+			throw new RuntimeException("Illegal configuration parameters");
+		}
+		this.threads = threads;
+		this.maxConcurrentCallBacks = maxConcurrentCallBacks;
+		this.earliestDeadlineFirst = earliestDeadlineFirst;
+		this.workerPool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				return new Thread(runnable, DEFAULT_GROUP_THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+			}
+		});
+		this.queuedTasks = new PriorityQueue<>();
+		this.runningCallBacks = 0;
+		this.virtualTime = 0;
+		this.sequence = 0;
+		this.closed = false;
+	}
+
+	/**
+	 * Create the {@link ExecutorService} for a new member of this group, to be
+	 * passed to the factory method of a Delayed Batch Executor. <br>
+	 * <br>
+	 * Shutting it down only stops accepting executions from that member, the pool
+	 * of the group is shut down by {@link #close()}
+	 *
+	 * @param weight the share of the pool given to the member relative to the
+	 *               other members when executions are queued
+	 * @return the {@link ExecutorService} for the new member
+	 *
+	 */
+	public ExecutorService newMemberExecutorService(int weight) {
+		if (weight < 1) {
+			throw new RuntimeException("Illegal configuration parameters");
+		}
+		return new MemberExecutorService(weight);
+	}
+
+	/**
+	 * The max number of batchCallBack methods of all of the members executed at
+	 * the same time
+	 *
+	 * @return the max number of concurrent executions
+	 *
+	 */
+	public int getMaxConcurrentCallBacks() {
+		return maxConcurrentCallBacks;
+	}
+
+	/**
+	 * Whether the queued executions are dispatched earliest deadline first
+	 * instead of by weighted fair queuing
+	 *
+	 * @return true if the queued executions are dispatched earliest deadline
+	 *         first
+	 *
+	 */
+	public boolean isEarliestDeadlineFirst() {
+		return earliestDeadlineFirst;
+	}
+
+	/**
+	 * The count of batchCallBack methods being executed right now
+	 *
+	 * @return the count of batchCallBack methods being executed
+	 *
+	 */
+	public synchronized int getRunningCallBacks() {
+		return runningCallBacks;
+	}
+
+	/**
+	 * The count of batchCallBack methods waiting for the global limit of
+	 * concurrent executions
+	 *
+	 * @return the count of queued executions
+	 *
+	 */
+	public synchronized int getQueuedCallBacks() {
+		return queuedTasks.size();
+	}
+
+	/**
+	 * Shut down the pool of the group as soon as the executions already accepted
+	 * (running or queued) are completed. New executions are rejected
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		shutdownWorkerPoolIfFinished();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format(TO_STRING_FORMAT, threads, maxConcurrentCallBacks, runningCallBacks, queuedTasks.size());
+	}
+
+	private synchronized void enqueue(MemberExecutorService member, Runnable runnable) {
+		if (closed) {
+			throw new RejectedExecutionException("This Delayed Batch Executor Group is closed");
+		}
+		double startTag = Math.max(virtualTime, member.lastFinishTag);
+		member.lastFinishTag = startTag + 1.0 / member.weight;
+		long deadlineNanos = runnable instanceof BatchRunnable ? ((BatchRunnable) runnable).getDeadlineNanos()
+				: System.nanoTime(); // other executions are due right away
+		queuedTasks.add(new GroupTask(member, runnable, startTag, member.lastFinishTag, deadlineNanos, sequence++));
+		dispatchQueuedTasks();
+	}
+
+	private synchronized void dispatchQueuedTasks() {
+		while (runningCallBacks < maxConcurrentCallBacks && !queuedTasks.isEmpty()) {
+			GroupTask groupTask = queuedTasks.poll();
+			virtualTime = groupTask.startTag;
+			runningCallBacks++;
+			workerPool.execute(groupTask);
+		}
+	}
+
+	private void finishTask(GroupTask groupTask) {
+		synchronized (this) {
+			runningCallBacks--;
+			dispatchQueuedTasks();
+			shutdownWorkerPoolIfFinished();
+		}
+		groupTask.member.finishTask();
+	}
+
+	private void shutdownWorkerPoolIfFinished() {
+		if (closed && runningCallBacks == 0 && queuedTasks.isEmpty()) {
+			workerPool.shutdown();
+		}
+	}
+
+	private class GroupTask implements Runnable, Comparable<GroupTask> {
+		private final MemberExecutorService member;
+		private final Runnable runnable;
+		private final double startTag;
+		private final double finishTag;
+		private final long deadlineNanos;
+		private final long sequence;
+
+		private GroupTask(MemberExecutorService member, Runnable runnable, double startTag, double finishTag,
+				long deadlineNanos, long sequence) {
+			this.member = member;
+			this.runnable = runnable;
+			this.startTag = startTag;
+			this.finishTag = finishTag;
+			this.deadlineNanos = deadlineNanos;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public void run() {
+			if (!(runnable instanceof BatchRunnable)) {
+				try {
+					runnable.run();
+				} finally {
+					finishTask(this);
+				}
+				return;
+			}
+			BatchRunnable batchRunnable = (BatchRunnable) runnable;
+			batchRunnable.setFinishListener(() -> finishTask(this)); // not before the batch has finished
+			try {
+				batchRunnable.run();
+			} catch (RuntimeException | Error e) {
+				batchRunnable.finish();
+				throw e;
+			}
+		}
+
+		@Override
+		public int compareTo(GroupTask other) {
+			int compareOrder = earliestDeadlineFirst ? Long.signum(deadlineNanos - other.deadlineNanos)
+					: Double.compare(finishTag, other.finishTag);
+			return compareOrder != 0 ? compareOrder : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private class MemberExecutorService extends AbstractExecutorService {
+		private final int weight;
+		private final AtomicInteger unfinishedTasks;
+		private double lastFinishTag; // guarded by the group
+		private volatile boolean shutdown;
+
+		private MemberExecutorService(int weight) {
+			this.weight = weight;
+			this.unfinishedTasks = new AtomicInteger(0);
+			this.lastFinishTag = 0;
+			this.shutdown = false;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			if (shutdown) {
+				throw new RejectedExecutionException("This member of the Delayed Batch Executor Group is shut down");
+			}
+			unfinishedTasks.incrementAndGet();
+			try {
+				enqueue(this, command);
+			} catch (RejectedExecutionException ree) {
+				finishTask();
+				throw ree;
+			}
+		}
+
+		private void finishTask() {
+			if (unfinishedTasks.decrementAndGet() == 0) {
+				synchronized (this) {
+					notifyAll();
+				}
+			}
+		}
+
+		@Override
+		public void shutdown() {
+			shutdown = true;
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			shutdown = true;
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return shutdown && unfinishedTasks.get() == 0;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+			synchronized (this) {
+				while (!isTerminated()) {
+					long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+					if (remainingMillis <= 0) {
+						return false;
+					}
+					wait(remainingMillis);
+				}
+			}
+			return true;
+		}
+	}
+}
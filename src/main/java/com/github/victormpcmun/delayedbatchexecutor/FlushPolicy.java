@@ -0,0 +1,168 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.time.Duration;
+
+/**
+ * Decides when the invocations collected by a Delayed Batch Executor are passed
+ * to the batchCallBack (see
+ * {@link DelayedBatchExecutorConfig#withFlushPolicy(FlushPolicy)}). <br>
+ * <br>
+ * The policy is evaluated whenever invocations are collected, an execution of
+ * the batchCallBack finishes, the configuration is updated or the delay
+ * returned by the previous evaluation elapses. The batchCallBack is executed
+ * when the returned delay is zero or negative, otherwise the policy is
+ * evaluated again when that delay elapses at the latest. Regardless of the
+ * policy, a batch never exceeds the maxSize nor the maxWeight <br>
+ * <br>
+ * The policy is evaluated while the Delayed Batch Executor is locked, so it
+ * must be fast and must not block. If it throws an exception, the collected
+ * invocations are given that exception (it is not thrown by the execute*(...)
+ * method being invoked) <br>
+ *
+ * <pre>
+ * {@code
+ * // flush as soon as there are 50 invocations, or when the oldest one has waited 20 ms
+ * DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 500)
+ *     .withFlushPolicy(FlushPolicy.linger(50, Duration.ofMillis(20)));
+ * }
+ * </pre>
+ *
+ * @author Victor Porcar
+ *
+ */
+@FunctionalInterface
+public interface FlushPolicy {
+
+	/**
+	 * The time to wait before passing the collected invocations to the
+	 * batchCallBack
+	 *
+	 * @param state the invocations collected so far, there is at least one
+	 * @return the delay, zero or negative to execute the batchCallBack right
+	 *         away
+	 *
+	 */
+	Duration getFlushDelay(State state);
+
+	/**
+	 * The classic policy, and the default one: the batchCallBack is executed as
+	 * soon as the maxSize is reached or when the time window (counted from the
+	 * oldest collected invocation) elapses
+	 *
+	 * @return the size or time {@link FlushPolicy}
+	 *
+	 */
+	static FlushPolicy sizeOrTime() {
+		return state -> state.getDuration().minus(state.getOldestAge()); // the maxSize is always applied
+	}
+
+	/**
+	 * The batchCallBack is executed as soon as minBatchSize invocations are
+	 * collected or when the oldest one has waited the linger, whichever is
+	 * first. The time window of the Delayed Batch Executor is not considered
+	 *
+	 * @param minBatchSize the count of collected invocations to execute the
+	 *                     batchCallBack without waiting any longer
+	 * @param linger       the max time the oldest invocation waits for more
+	 *                     invocations
+	 * @return the linger {@link FlushPolicy}
+	 *
+	 */
+	static FlushPolicy linger(int minBatchSize, Duration linger) {
+		if (minBatchSize < 1 || linger == null || linger.isNegative()) {
+			throw new IllegalArgumentException("Illegal linger policy parameters");
+		}
+		return state -> state.getPendingCount() >= minBatchSize ? Duration.ZERO
+				: linger.minus(state.getOldestAge());
+	}
+
+	/**
+	 * The batchCallBack is executed when the oldest collected invocation has
+	 * waited the maxAge, no matter the time window of the Delayed Batch Executor
+	 * (the maxSize still applies)
+	 *
+	 * @param maxAge the max time an invocation waits to be passed to the
+	 *               batchCallBack
+	 * @return the max age {@link FlushPolicy}
+	 *
+	 */
+	static FlushPolicy maxAge(Duration maxAge) {
+		if (maxAge == null || maxAge.isNegative()) {
+			throw new IllegalArgumentException("Illegal max age policy parameters");
+		}
+		return state -> maxAge.minus(state.getOldestAge());
+	}
+
+	/**
+	 * The invocations collected by a Delayed Batch Executor and not passed to
+	 * the batchCallBack yet, as seen by a {@link FlushPolicy}
+	 *
+	 * @author Victor Porcar
+	 *
+	 */
+	interface State {
+
+		/**
+		 * The count of collected invocations, not including the duplicated ones
+		 * removed when they were enlisted (see
+		 * {@link DelayedBatchExecutorConfig#withRemoveDuplicatesOnEnlist(boolean)})
+		 *
+		 * @return the count of collected invocations
+		 *
+		 */
+		int getPendingCount();
+
+		/**
+		 * The count of distinct arguments of the collected invocations. It is
+		 * computed on demand unless either removeDuplicatesOnEnlist or
+		 * countDistinctArguments is configured, so it is more expensive than the
+		 * rest of values
+		 *
+		 * @return the count of distinct arguments
+		 *
+		 */
+		int getDistinctCount();
+
+		/**
+		 * The time waited by the oldest collected invocation
+		 *
+		 * @return the age of the oldest collected invocation
+		 *
+		 */
+		Duration getOldestAge();
+
+		/**
+		 * The count of batches passed to the batchCallBack which have not finished
+		 * yet (a batch split in sub-batches is counted once)
+		 *
+		 * @return the count of batches in flight
+		 *
+		 */
+		int getInFlightCallBacks();
+
+		/**
+		 * The sum of the weights of the collected invocations (see
+		 * {@link DelayedBatchExecutorConfig#withMaxWeight(java.util.function.ToIntFunction, long)})
+		 *
+		 * @return the weight of the collected invocations
+		 *
+		 */
+		long getPendingWeight();
+
+		/**
+		 * The current maxSize of the Delayed Batch Executor
+		 *
+		 * @return the maxSize
+		 *
+		 */
+		int getMaxSize();
+
+		/**
+		 * The current time window of the Delayed Batch Executor
+		 *
+		 * @return the {@link Duration} of the time window
+		 *
+		 */
+		Duration getDuration();
+	}
+}
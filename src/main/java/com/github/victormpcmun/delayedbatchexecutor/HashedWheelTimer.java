@@ -0,0 +1,166 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timing wheel shared by all of the Delayed Batch Executors of the JVM to
+ * expire their time windows. Scheduling and cancelling a window timeout is
+ * O(1) and a single daemon thread advances the wheel, parking while there is
+ * nothing scheduled. <br>
+ * <br>
+ * The tick resolution and the size of the wheel of the shared instance can be
+ * tuned by the system properties {@value #TICK_MILLISECONDS_PROPERTY} (default
+ * {@value #DEFAULT_TICK_MILLISECONDS}) and {@value #TICKS_PER_WHEEL_PROPERTY}
+ * (default {@value #DEFAULT_TICKS_PER_WHEEL})
+ */
+final class HashedWheelTimer {
+
+	static final String TICK_MILLISECONDS_PROPERTY = "delayedbatchexecutor.timer.tickMilliseconds";
+	static final String TICKS_PER_WHEEL_PROPERTY = "delayedbatchexecutor.timer.ticksPerWheel";
+	static final long DEFAULT_TICK_MILLISECONDS = 1;
+	static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+	private static final String WORKER_THREAD_NAME = "delayed-batch-executor-timer";
+	private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	static final HashedWheelTimer SHARED = new HashedWheelTimer(
+			TimeUnit.MILLISECONDS.toNanos(Long.getLong(TICK_MILLISECONDS_PROPERTY, DEFAULT_TICK_MILLISECONDS)),
+			Integer.getInteger(TICKS_PER_WHEEL_PROPERTY, DEFAULT_TICKS_PER_WHEEL));
+
+	static final class Timeout {
+		private final Runnable task;
+		private final long deadlineNanos;
+		private long remainingRounds;
+		private volatile boolean cancelled;
+
+		private Timeout(Runnable task, long deadlineNanos) {
+			this.task = task;
+			this.deadlineNanos = deadlineNanos;
+			this.cancelled = false;
+		}
+
+		void cancel() {
+			cancelled = true;
+		}
+	}
+
+	private final long tickNanos;
+	private final int mask;
+	private final Queue<Timeout>[] wheel;
+	private final Queue<Timeout> newTimeouts;
+	private final AtomicInteger pendingTimeouts;
+	private final long startNanos;
+	private final Thread workerThread;
+	private volatile boolean idle;
+	private long tick;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	HashedWheelTimer(long tickNanos, int ticksPerWheel) {
+		if (tickNanos <= 0 || ticksPerWheel <= 0) {
+			throw new IllegalArgumentException("Illegal timer parameters");
+		}
+		int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1; // power of two
+		this.tickNanos = tickNanos;
+		this.mask = Math.max(wheelSize, 1) - 1;
+		this.wheel = new Queue[mask + 1];
+		for (int index = 0; index < wheel.length; index++) {
+			wheel[index] = new ArrayDeque<>();
+		}
+		this.newTimeouts = new ConcurrentLinkedQueue<>();
+		this.pendingTimeouts = new AtomicInteger(0);
+		this.startNanos = System.nanoTime();
+		this.idle = false;
+		this.tick = 0;
+		this.workerThread = new Thread(this::run, WORKER_THREAD_NAME);
+		this.workerThread.setDaemon(true);
+		this.workerThread.start();
+	}
+
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+		pendingTimeouts.incrementAndGet();
+		newTimeouts.add(timeout);
+		if (idle) {
+			LockSupport.unpark(workerThread);
+		}
+		return timeout;
+	}
+
+	int getPendingTimeouts() {
+		return pendingTimeouts.get();
+	}
+
+	private void run() {
+		while (true) {
+			if (pendingTimeouts.get() == 0) {
+				waitWhileIdle();
+			}
+			waitForNextTick();
+			transferNewTimeouts();
+			expireTimeouts(wheel[(int) (tick & mask)]);
+			tick++;
+		}
+	}
+
+	private void waitWhileIdle() {
+		idle = true;
+		while (pendingTimeouts.get() == 0) {
+			LockSupport.park(this);
+		}
+		idle = false;
+		tick = (System.nanoTime() - startNanos) / tickNanos; // skip the ticks elapsed while idle
+	}
+
+	private void waitForNextTick() {
+		long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+		long sleepNanos;
+		while ((sleepNanos = nextTickNanos - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(this, sleepNanos);
+		}
+	}
+
+	private void transferNewTimeouts() {
+		Timeout timeout;
+		while ((timeout = newTimeouts.poll()) != null) {
+			if (timeout.cancelled) {
+				pendingTimeouts.decrementAndGet();
+				continue;
+			}
+			long deadlineTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+			timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+			wheel[(int) (deadlineTick & mask)].add(timeout);
+		}
+	}
+
+	private void expireTimeouts(Queue<Timeout> bucket) {
+		for (int counter = bucket.size(); counter > 0; counter--) {
+			Timeout timeout = bucket.poll();
+			if (timeout.cancelled) {
+				pendingTimeouts.decrementAndGet();
+			} else if (timeout.remainingRounds <= 0) {
+				pendingTimeouts.decrementAndGet();
+				runTask(timeout.task);
+			} else {
+				timeout.remainingRounds--;
+				bucket.add(timeout);
+			}
+		}
+	}
+
+	private void runTask(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException re) {
+			// a failing task must not stop the timer shared by every Delayed Batch Executor
+			LOGGER.error("A task of the timer of the Delayed Batch Executors has failed", re);
+		}
+	}
+}
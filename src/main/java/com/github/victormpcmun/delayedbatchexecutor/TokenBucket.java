@@ -0,0 +1,63 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+/**
+ * Token bucket limiting the executions of the batchCallBack of a Delayed Batch
+ * Executor, shared by all of its partitions. It is kept as the theoretical
+ * time when the bucket would be full again, so no refill thread is needed
+ */
+class TokenBucket {
+
+	private final long nanosPerPermit;
+	private final int burst;
+	private long fullNanos;
+
+	TokenBucket(double permitsPerSecond, int burst) {
+		this.nanosPerPermit = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+		this.burst = burst;
+		this.fullNanos = System.nanoTime();
+	}
+
+	/**
+	 * the count of permits that can be acquired at the given time, up to the
+	 * burst
+	 */
+	synchronized int getAvailablePermits(long nowNanos) {
+		long emptyNanos = fullNanos - burst * nanosPerPermit;
+		if (nowNanos - fullNanos >= 0) {
+			return burst;
+		}
+		return nowNanos - emptyNanos < 0 ? 0 : (int) ((nowNanos - emptyNanos) / nanosPerPermit);
+	}
+
+	/**
+	 * the time to wait from the given time until the given count of permits are
+	 * available, zero if they already are
+	 */
+	synchronized long getNanosUntilPermits(long nowNanos, int permits) {
+		long availableNanos = fullNanos - (burst - Math.min(permits, burst)) * nanosPerPermit;
+		return Math.max(0L, availableNanos - nowNanos);
+	}
+
+	/**
+	 * up to the given count of permits are taken at once, returning the count of
+	 * them taken. Checking and taking them is atomic, as the bucket is shared by
+	 * the partitions
+	 */
+	synchronized int tryAcquire(long nowNanos, int maxPermits) {
+		int permits = Math.min(maxPermits, getAvailablePermits(nowNanos));
+		if (permits > 0) {
+			if (nowNanos - fullNanos > 0) {
+				fullNanos = nowNanos;
+			}
+			fullNanos += permits * nanosPerPermit;
+		}
+		return permits;
+	}
+
+	/**
+	 * the given permits taken by tryAcquire(...) and not used are given back
+	 */
+	synchronized void giveBack(int permits) {
+		fullNanos -= permits * nanosPerPermit;
+	}
+}
@@ -1,23 +1,99 @@
 package com.github.victormpcmun.delayedbatchexecutor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 abstract class Tuple<T> {
 	protected T result;
 	protected final Object[] argsAsArray;
 	protected RuntimeException runtimeException;
+	private Object key;
+	private int weight;
+	private long enlistedNanos;
+	private Object tenant;
 	private int hashCode;
+	private List<Tuple<T>> duplicatedTupleList;
 
 	Tuple(Object... argsAsArray) {
 		this.result = null;
 		this.argsAsArray = argsAsArray;
-		this.hashCode = Arrays.hashCode(argsAsArray);
+		this.weight = 1;
+	}
+
+	/**
+	 * the key deciding the duplicated tuples, being by default the list of all of
+	 * the arguments
+	 */
+	void setKey(Object key) {
+		this.key = key;
+	}
+
+	Object getKey() {
+		return key != null ? key : getArgumentsAsList();
+	}
+
+	/**
+	 * the weight of the arguments to be compared with maxWeight, being 1 by
+	 * default
+	 */
+	void setWeight(int weight) {
+		this.weight = weight;
+	}
+
+	int getWeight() {
+		return weight;
+	}
 
+	/**
+	 * the System.nanoTime() when the tuple was collected in a time window
+	 */
+	void setEnlistedNanos(long enlistedNanos) {
+		this.enlistedNanos = enlistedNanos;
 	}
 
-	void copyResultAndRuntimeExceptionFromTuple(Tuple<T> tuple) {
-		this.result = tuple.getResult();
-		this.runtimeException = tuple.getRuntimeException();
+	long getEnlistedNanos() {
+		return enlistedNanos;
+	}
+
+	/**
+	 * the tenant of the arguments when there is fairness between tenants
+	 */
+	void setTenant(Object tenant) {
+		this.tenant = tenant;
+	}
+
+	Object getTenant() {
+		return tenant;
+	}
+
+	/**
+	 * the given tuple (with the same arguments) will be given the result of this
+	 * one
+	 */
+	void addDuplicatedTuple(Tuple<T> tuple) {
+		if (duplicatedTupleList == null) {
+			duplicatedTupleList = new ArrayList<>();
+		}
+		duplicatedTupleList.add(tuple);
+	}
+
+	/**
+	 * the count of invocations given the result of this tuple, including itself
+	 */
+	int getInvocationsCount() {
+		return duplicatedTupleList == null ? 1 : 1 + duplicatedTupleList.size();
+	}
+
+	void setResultAndContinue(T result, RuntimeException runtimeException) {
+		setResult(result);
+		setRuntimeException(runtimeException);
+		continueIfIsWaiting();
+		if (duplicatedTupleList != null) {
+			for (Tuple<T> duplicatedTuple : duplicatedTupleList) {
+				duplicatedTuple.setResultAndContinue(result, runtimeException);
+			}
+		}
 	}
 
 	public void setResult(T result) {
@@ -36,12 +112,24 @@ abstract class Tuple<T> {
 		return argsAsArray[argPosition];
 	}
 
+	List<Object> getArgumentsAsList() {
+		return Arrays.asList(argsAsArray);
+	}
+
 	public T getResult() {
 		return result;
 	}
 
 	abstract void continueIfIsWaiting();
 
+	/**
+	 * true if nobody waits for the result of this tuple anymore, so it does not
+	 * need to be passed to the batchCallBack
+	 */
+	boolean isCancelled() {
+		return false;
+	}
+
 	RuntimeException getRuntimeException() {
 		return runtimeException;
 	}
@@ -57,11 +145,17 @@ abstract class Tuple<T> {
 		if (!(o instanceof Tuple))
 			return false;
 		Tuple<?> tuple = (Tuple<?>) o;
-		return Arrays.equals(argsAsArray, tuple.argsAsArray);
+		if (key == null && tuple.key == null) {
+			return Arrays.equals(argsAsArray, tuple.argsAsArray);
+		}
+		return getKey().equals(tuple.getKey());
 	}
 
 	@Override
 	public int hashCode() {
+		if (hashCode == 0) {
+			hashCode = key == null ? Arrays.hashCode(argsAsArray) : key.hashCode(); // computed only if needed
+		}
 		return hashCode;
 	}
 }
@@ -0,0 +1,669 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+class TupleAccumulator<T> {
+
+	private final BiConsumer<TupleAccumulator<T>, List<Tuple<T>>> batchDispatcher;
+	private final BiConsumer<List<Tuple<T>>, RuntimeException> tupleListFailer;
+	private final boolean removeDuplicatesOnEnlist;
+	private final boolean countDistinctArguments;
+	private final long maxWeight;
+	private final boolean idleDispatch;
+	private final int maxConcurrentBatches;
+	private final int maxCoalescedSize;
+	private final FlushPolicy flushPolicy;
+	private final FlushPolicy.State flushPolicyState;
+	private final TokenBucket rateLimiter; // null if there is no rate limit
+	private final long queueDelayTargetNanos; // 0 if there is no load shedding
+	private final long queueDelayIntervalNanos;
+	private final boolean tenantFairness;
+	private final int maxPendingPerTenant;
+	private final Map<Object, Integer> tenantBufferedCounterMap;
+	private final Deque<List<Tuple<T>>> readyTupleLists; // taken, waiting for maxConcurrentBatches
+
+	private volatile Duration duration;
+	private int maxSize;
+	private int bufferQueueSize;
+
+	private List<Tuple<T>> pendingTupleList;
+	private Map<Tuple<T>, Tuple<T>> pendingTupleMap;
+	private long pendingWeight;
+	private int bufferedCounter;
+	private final TreeMap<Long, Integer> bufferedEnlistedNanosMap; // only with queue delay target
+	private int inFlightBatches;
+	private long windowSequence;
+	private long windowOpenedNanos;
+	private HashedWheelTimer.Timeout windowTimer;
+	private long windowTimerDeadlineNanos;
+	private HashedWheelTimer.Timeout throttleTimer;
+	private long throttleTimerDeadlineNanos;
+	private long queueDelayAboveTargetNanos; // 0 if the queue delay is below the target
+	private boolean shedding;
+	private boolean closed;
+
+	/**
+	 * the tupleListFailer receives the tuples that can not be dispatched, already
+	 * released, with the exception to fail them
+	 */
+	TupleAccumulator(DelayedBatchExecutorConfig config, TokenBucket rateLimiter,
+			BiConsumer<TupleAccumulator<T>, List<Tuple<T>>> batchDispatcher,
+			BiConsumer<List<Tuple<T>>, RuntimeException> tupleListFailer) {
+		this.batchDispatcher = batchDispatcher;
+		this.tupleListFailer = tupleListFailer;
+		this.rateLimiter = rateLimiter;
+		this.queueDelayTargetNanos = config.getQueueDelayTarget() == null ? 0 : config.getQueueDelayTarget().toNanos();
+		this.queueDelayIntervalNanos = config.getQueueDelayInterval().toNanos();
+		this.tenantFairness = config.getTenantExtractor() != null;
+		this.maxPendingPerTenant = config.getMaxPendingPerTenant();
+		this.tenantBufferedCounterMap = new HashMap<>();
+		this.removeDuplicatesOnEnlist = config.isRemoveDuplicatesOnEnlist();
+		this.countDistinctArguments = config.isCountDistinctArguments();
+		this.maxWeight = config.getMaxWeight();
+		this.idleDispatch = config.isIdleDispatch();
+		this.maxConcurrentBatches = config.getMaxConcurrentBatches();
+		this.maxCoalescedSize = config.getMaxCoalescedSize();
+		this.flushPolicy = config.getFlushPolicy();
+		this.flushPolicyState = new PendingState();
+		this.readyTupleLists = new ArrayDeque<>();
+		this.duration = config.getDuration();
+		this.maxSize = config.getMaxSize();
+		this.bufferQueueSize = config.getBufferQueueSize();
+		this.pendingTupleList = new ArrayList<>();
+		this.pendingTupleMap = new HashMap<>();
+		this.pendingWeight = 0;
+		this.bufferedCounter = 0;
+		this.bufferedEnlistedNanosMap = new TreeMap<>();
+		this.inFlightBatches = 0;
+		this.windowSequence = 0;
+		this.queueDelayAboveTargetNanos = 0;
+		this.shedding = false;
+		this.closed = false;
+	}
+
+	void add(Tuple<T> tuple) {
+		addAll(Collections.singletonList(tuple));
+	}
+
+	/**
+	 * the given tuples are added all together (being split in several batches if
+	 * they exceed maxSize or maxWeight) or none of them if there is not room
+	 * enough in the buffer
+	 */
+	void addAll(List<Tuple<T>> tupleList) {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		List<Tuple<T>> failedTupleList = new ArrayList<>();
+		RuntimeException flushPolicyException;
+		synchronized (this) {
+			if (closed) {
+				throw new RejectedExecutionException("This Delayed Batch Executor is closed");
+			}
+			int requiredSlots = removeDuplicatesOnEnlist ? countRequiredSlots(tupleList) : tupleList.size();
+			if (bufferedCounter + requiredSlots > bufferQueueSize) {
+				throw new RejectedExecutionException(
+						"The internal buffer queue of this Delayed Batch Executor is full: " + bufferQueueSize);
+			}
+			if (queueDelayTargetNanos > 0 && !bufferedEnlistedNanosMap.isEmpty()) {
+				long nowNanos = System.nanoTime();
+				updateShedding(nowNanos - bufferedEnlistedNanosMap.firstKey(), nowNanos); // the batchCallBack may hang
+			}
+			if (shedding) {
+				if (bufferedCounter > 0) {
+					throw new RejectedExecutionException(
+							"The queue delay of this Delayed Batch Executor exceeds its target (in ms): "
+									+ TimeUnit.NANOSECONDS.toMillis(queueDelayTargetNanos));
+				}
+				shedding = false; // the buffer was drained, so there is no standing queue anymore
+				queueDelayAboveTargetNanos = 0;
+			}
+			if (tenantFairness && maxPendingPerTenant < Integer.MAX_VALUE) {
+				checkPendingPerTenant(tupleList);
+			}
+			long enlistedNanos = System.nanoTime();
+			for (Tuple<T> tuple : tupleList) {
+				tuple.setEnlistedNanos(enlistedNanos);
+				boolean pendingKey = false;
+				if (removeDuplicatesOnEnlist || countDistinctArguments) {
+					Tuple<T> pendingTuple = pendingTupleMap.get(tuple);
+					if (pendingTuple != null && removeDuplicatesOnEnlist) {
+						pendingTuple.addDuplicatedTuple(tuple); // given the result of the pending one
+						continue;
+					}
+					pendingKey = pendingTuple != null;
+				}
+				long tupleWeight = pendingKey ? 0 : tuple.getWeight(); // duplicates do not reach the batchCallBack
+				if (!pendingTupleList.isEmpty() && pendingWeight + tupleWeight > maxWeight) {
+					readyTupleLists.add(takePendingTupleList()); // it would exceed maxWeight
+				}
+				if (pendingTupleList.isEmpty()) {
+					windowOpenedNanos = enlistedNanos;
+				}
+				if (removeDuplicatesOnEnlist || countDistinctArguments) {
+					pendingTupleMap.putIfAbsent(tuple, tuple);
+				}
+				pendingTupleList.add(tuple);
+				pendingWeight += tupleWeight;
+				bufferedCounter++;
+				if (queueDelayTargetNanos > 0) {
+					bufferedEnlistedNanosMap.merge(enlistedNanos, 1, Integer::sum);
+				}
+				if (tenantFairness) {
+					tenantBufferedCounterMap.merge(tuple.getTenant(), 1, Integer::sum);
+				}
+				if (getPendingSize() >= maxSize || pendingWeight >= maxWeight) {
+					readyTupleLists.add(takePendingTupleList());
+				}
+			}
+			if (idleDispatch && inFlightBatches == 0 && readyTupleLists.isEmpty() && !pendingTupleList.isEmpty()
+					&& !isThrottled()) {
+				readyTupleLists.add(takePendingTupleList()); // there is nothing in flight to wait for
+			}
+			flushPolicyException = evaluateFlushPolicy(failedTupleList);
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		fail(failedTupleList, flushPolicyException);
+		dispatch(tupleListsToDispatch);
+	}
+
+	/**
+	 * to be invoked when the batchCallBack is about to be executed for the given
+	 * tuples, so they no longer take space in the buffer. The time waited by the
+	 * oldest of them is their queue delay for the load shedding
+	 */
+	synchronized void release(List<Tuple<T>> tupleList) {
+		bufferedCounter -= tupleList.size();
+		if (tenantFairness) {
+			for (Tuple<T> tuple : tupleList) {
+				tenantBufferedCounterMap.computeIfPresent(tuple.getTenant(),
+						(tenant, count) -> count > 1 ? count - 1 : null);
+			}
+		}
+		if (queueDelayTargetNanos > 0) {
+			for (Tuple<T> tuple : tupleList) {
+				bufferedEnlistedNanosMap.computeIfPresent(tuple.getEnlistedNanos(),
+						(enlistedNanos, count) -> count > 1 ? count - 1 : null);
+			}
+			long nowNanos = System.nanoTime();
+			updateShedding(nowNanos - getOldestEnlistedNanos(tupleList), nowNanos);
+		}
+	}
+
+	/**
+	 * to be invoked when the batchCallBack has finished for a dispatched list of
+	 * tuples. If idleDispatch, the tuples collected meanwhile are dispatched
+	 */
+	void finishBatch() {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		List<Tuple<T>> failedTupleList = new ArrayList<>();
+		RuntimeException flushPolicyException = null;
+		synchronized (this) {
+			inFlightBatches--;
+			if (idleDispatch && readyTupleLists.isEmpty() && !pendingTupleList.isEmpty() && !isThrottled()) {
+				readyTupleLists.add(takePendingTupleList());
+			} else {
+				flushPolicyException = evaluateFlushPolicy(failedTupleList);
+			}
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		fail(failedTupleList, flushPolicyException);
+		dispatch(tupleListsToDispatch);
+	}
+
+	/**
+	 * the deadline of the given dispatched tuple list: the time when its oldest
+	 * tuple was collected plus the current time window
+	 */
+	long getDeadlineNanos(List<Tuple<T>> tupleList) {
+		return getOldestEnlistedNanos(tupleList) + duration.toNanos();
+	}
+
+	/**
+	 * the time when the oldest of the given tuples was collected. They are kept
+	 * in the order they were collected (so it is the first one) unless they have
+	 * been distributed between tenants
+	 */
+	private long getOldestEnlistedNanos(List<Tuple<T>> tupleList) {
+		long oldestEnlistedNanos = tupleList.get(0).getEnlistedNanos();
+		if (tenantFairness) {
+			for (Tuple<T> tuple : tupleList) {
+				if (tuple.getEnlistedNanos() - oldestEnlistedNanos < 0) {
+					oldestEnlistedNanos = tuple.getEnlistedNanos();
+				}
+			}
+		}
+		return oldestEnlistedNanos;
+	}
+
+	void reconfigure(Duration duration, int maxSize, int bufferQueueSize) {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		List<Tuple<T>> failedTupleList = new ArrayList<>();
+		RuntimeException flushPolicyException = null;
+		synchronized (this) {
+			this.duration = duration;
+			this.maxSize = maxSize;
+			this.bufferQueueSize = bufferQueueSize;
+			if (!pendingTupleList.isEmpty() && (getPendingSize() >= maxSize || pendingWeight >= maxWeight)) {
+				readyTupleLists.add(takePendingTupleList());
+			} else {
+				flushPolicyException = evaluateFlushPolicy(failedTupleList);
+			}
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		fail(failedTupleList, flushPolicyException);
+		dispatch(tupleListsToDispatch);
+	}
+
+	void close() {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		synchronized (this) {
+			closed = true;
+			if (!pendingTupleList.isEmpty()) {
+				readyTupleLists.add(takePendingTupleList());
+			}
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		dispatch(tupleListsToDispatch);
+	}
+
+	private void onThrottleTimeout() {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		List<Tuple<T>> failedTupleList = new ArrayList<>();
+		RuntimeException flushPolicyException;
+		synchronized (this) {
+			throttleTimer = null;
+			flushPolicyException = evaluateFlushPolicy(failedTupleList);
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		fail(failedTupleList, flushPolicyException);
+		dispatch(tupleListsToDispatch);
+	}
+
+	private void onWindowTimeout(long timerWindowSequence) {
+		List<List<Tuple<T>>> tupleListsToDispatch;
+		List<Tuple<T>> failedTupleList = new ArrayList<>();
+		RuntimeException flushPolicyException;
+		synchronized (this) {
+			if (timerWindowSequence != windowSequence) {
+				return; // the window was already dispatched
+			}
+			windowTimer = null;
+			flushPolicyException = evaluateFlushPolicy(failedTupleList);
+			tupleListsToDispatch = pollDispatchableTupleLists();
+		}
+		fail(failedTupleList, flushPolicyException);
+		dispatch(tupleListsToDispatch);
+	}
+
+	/**
+	 * the pending tuples taken because the flushPolicy evaluation failed are
+	 * failed with its exception once the lock is released. It is not thrown to
+	 * the invoking thread, as the pending tuples of other invocations are failed
+	 * as well and the ready ones are still dispatched
+	 */
+	private void fail(List<Tuple<T>> tupleList, RuntimeException runtimeException) {
+		if (tupleList.isEmpty()) {
+			return;
+		}
+		release(tupleList);
+		tupleListFailer.accept(tupleList, runtimeException);
+	}
+
+	/**
+	 * the given tuples are rejected if the tuples of any of their tenants waiting
+	 * for the batchCallBack would exceed maxPendingPerTenant
+	 */
+	private void checkPendingPerTenant(List<Tuple<T>> tupleList) {
+		Map<Object, Integer> requiredSlotsMap = new HashMap<>();
+		for (Tuple<T> tuple : tupleList) {
+			requiredSlotsMap.merge(tuple.getTenant(), 1, Integer::sum);
+		}
+		for (Map.Entry<Object, Integer> requiredSlotsEntry : requiredSlotsMap.entrySet()) {
+			if (tenantBufferedCounterMap.getOrDefault(requiredSlotsEntry.getKey(), 0)
+					+ requiredSlotsEntry.getValue() > maxPendingPerTenant) {
+				throw new RejectedExecutionException("The invocations of the tenant " + requiredSlotsEntry.getKey()
+						+ " waiting in this Delayed Batch Executor would exceed the max: " + maxPendingPerTenant);
+			}
+		}
+	}
+
+	/**
+	 * CoDel-like load shedding: once the queue delay has been above the target
+	 * for a whole interval, the new invocations are rejected until it is below
+	 * the target again or the buffer is drained
+	 */
+	private void updateShedding(long queueDelayNanos, long nowNanos) {
+		if (queueDelayNanos < queueDelayTargetNanos) {
+			queueDelayAboveTargetNanos = 0;
+			shedding = false;
+		} else if (queueDelayAboveTargetNanos == 0) {
+			queueDelayAboveTargetNanos = nowNanos;
+		} else if (nowNanos - queueDelayAboveTargetNanos >= queueDelayIntervalNanos) {
+			shedding = true;
+		}
+	}
+
+	/**
+	 * the flushPolicy is evaluated, but if it fails the pending tuples are added
+	 * to the given list to be failed with the exception returned (null if it did
+	 * not fail)
+	 */
+	private RuntimeException evaluateFlushPolicy(List<Tuple<T>> failedTupleList) {
+		try {
+			evaluateFlushPolicy();
+			return null;
+		} catch (RuntimeException re) {
+			failedTupleList.addAll(takePendingTupleList()); // otherwise the flushPolicy would fail them again
+			return re;
+		}
+	}
+
+	/**
+	 * the pending tuples are taken if the flushPolicy says so, otherwise the
+	 * window timer is scheduled to evaluate it again after the given delay. While
+	 * throttled by the rate limit they are not taken, so they keep on being
+	 * collected until maxSize or maxWeight is reached
+	 */
+	private void evaluateFlushPolicy() {
+		if (pendingTupleList.isEmpty()) {
+			return;
+		}
+		long delayNanos = flushPolicy.getFlushDelay(flushPolicyState).toNanos();
+		if (delayNanos <= 0) {
+			if (isThrottled()) {
+				scheduleThrottleTimer(rateLimiter.getNanosUntilPermits(System.nanoTime(), readyTupleLists.size() + 1));
+			} else {
+				readyTupleLists.add(takePendingTupleList());
+			}
+			return;
+		}
+		long deadlineNanos = System.nanoTime() + delayNanos;
+		if (windowTimer == null || deadlineNanos - windowTimerDeadlineNanos < 0) {
+			scheduleWindowTimer(delayNanos, deadlineNanos);
+		}
+	}
+
+	/**
+	 * the ready tuple lists which can be dispatched without exceeding
+	 * maxConcurrentBatches nor the rate limit, in the order they were taken. If
+	 * there are more of them than can be dispatched, they are coalesced up to
+	 * maxCoalescedSize. The ones left because of the rate limit are dispatched
+	 * by the throttle timer
+	 */
+	private List<List<Tuple<T>>> pollDispatchableTupleLists() {
+		if (readyTupleLists.isEmpty() || inFlightBatches >= maxConcurrentBatches) {
+			return Collections.emptyList();
+		}
+		int dispatchable = Math.min(maxConcurrentBatches - inFlightBatches, readyTupleLists.size());
+		long nowNanos = 0;
+		if (rateLimiter != null) {
+			nowNanos = System.nanoTime();
+			dispatchable = rateLimiter.tryAcquire(nowNanos, dispatchable);
+		}
+		if (tenantFairness && dispatchable > 0 && readyTupleLists.size() > dispatchable) {
+			distributeReadyTuplesByTenant(); // some of them are going to wait, so they are shared between tenants
+		}
+		List<List<Tuple<T>>> tupleLists = new ArrayList<>();
+		while (!readyTupleLists.isEmpty() && tupleLists.size() < dispatchable) {
+			boolean saturated = readyTupleLists.size() > dispatchable - tupleLists.size();
+			List<Tuple<T>> tupleList = readyTupleLists.poll();
+			tupleLists.add(saturated ? coalesce(tupleList) : tupleList);
+			inFlightBatches++;
+		}
+		if (rateLimiter != null) {
+			rateLimiter.giveBack(dispatchable - tupleLists.size()); // the ready lists coalesced
+			if (!readyTupleLists.isEmpty() && inFlightBatches < maxConcurrentBatches) {
+				scheduleThrottleTimer(rateLimiter.getNanosUntilPermits(nowNanos, 1));
+			}
+		}
+		return tupleLists;
+	}
+
+	/**
+	 * the ready tuples are distributed again in lists by deficit round-robin
+	 * between their tenants, starting by the tenant of the oldest one: each time
+	 * a tenant is visited its deficit is increased by a quantum (its share of a
+	 * list) and it is given the slots its deficit can pay for. The cost of a
+	 * tuple is its weight if there is maxWeight, otherwise one slot. The tuples
+	 * of each tenant keep their order
+	 */
+	private void distributeReadyTuplesByTenant() {
+		Map<Object, TenantQueue<T>> tenantQueueMap = new HashMap<>();
+		Deque<TenantQueue<T>> activeTenantQueues = new ArrayDeque<>();
+		for (List<Tuple<T>> readyTupleList : readyTupleLists) {
+			for (Tuple<T> tuple : readyTupleList) {
+				TenantQueue<T> tenantQueue = tenantQueueMap.get(tuple.getTenant());
+				if (tenantQueue == null) {
+					tenantQueue = new TenantQueue<>();
+					tenantQueueMap.put(tuple.getTenant(), tenantQueue);
+					activeTenantQueues.add(tenantQueue);
+				}
+				tenantQueue.tuples.add(tuple);
+			}
+		}
+		readyTupleLists.clear();
+		boolean weighted = maxWeight != Long.MAX_VALUE;
+		long quantum = Math.max(1L, (weighted ? maxWeight : maxSize) / activeTenantQueues.size());
+		List<Tuple<T>> tupleList = new ArrayList<>();
+		long weight = 0;
+		while (!activeTenantQueues.isEmpty()) {
+			TenantQueue<T> tenantQueue = activeTenantQueues.poll();
+			tenantQueue.deficit += quantum;
+			while (!tenantQueue.tuples.isEmpty()) {
+				Tuple<T> tuple = tenantQueue.tuples.peek();
+				long cost = weighted ? tuple.getWeight() : 1;
+				if (cost > tenantQueue.deficit) {
+					break;
+				}
+				if (tupleList.size() >= maxSize || (!tupleList.isEmpty() && weight + tuple.getWeight() > maxWeight)) {
+					readyTupleLists.add(tupleList);
+					tupleList = new ArrayList<>();
+					weight = 0;
+				}
+				tupleList.add(tenantQueue.tuples.poll());
+				weight += tuple.getWeight();
+				tenantQueue.deficit -= cost;
+			}
+			if (!tenantQueue.tuples.isEmpty()) {
+				activeTenantQueues.add(tenantQueue); // the unused deficit is kept for its next visit
+			}
+		}
+		if (!tupleList.isEmpty()) {
+			readyTupleLists.add(tupleList);
+		}
+	}
+
+	/**
+	 * true if the rate limit does not allow one more batch than the ready ones
+	 */
+	private boolean isThrottled() {
+		return rateLimiter != null
+				&& rateLimiter.getAvailablePermits(System.nanoTime()) <= readyTupleLists.size();
+	}
+
+	/**
+	 * the given tuple list with the following ready ones appended, as long as
+	 * neither maxCoalescedSize nor maxWeight are exceeded
+	 */
+	private List<Tuple<T>> coalesce(List<Tuple<T>> tupleList) {
+		List<Tuple<T>> coalescedTupleList = tupleList;
+		long coalescedWeight = maxWeight == Long.MAX_VALUE ? 0 : getWeight(tupleList);
+		while (!readyTupleLists.isEmpty()
+				&& coalescedTupleList.size() + readyTupleLists.peek().size() <= maxCoalescedSize) {
+			long nextWeight = maxWeight == Long.MAX_VALUE ? 0 : getWeight(readyTupleLists.peek());
+			if (coalescedWeight + nextWeight > maxWeight) {
+				break;
+			}
+			if (coalescedTupleList == tupleList) {
+				coalescedTupleList = new ArrayList<>(tupleList);
+			}
+			coalescedTupleList.addAll(readyTupleLists.poll());
+			coalescedWeight += nextWeight;
+		}
+		return coalescedTupleList;
+	}
+
+	private long getWeight(List<Tuple<T>> tupleList) {
+		long weight = 0;
+		for (Tuple<T> tuple : tupleList) {
+			weight += tuple.getWeight();
+		}
+		return weight;
+	}
+
+	private void scheduleWindowTimer(long delayNanos, long deadlineNanos) {
+		cancelWindowTimer();
+		long timerWindowSequence = windowSequence;
+		windowTimerDeadlineNanos = deadlineNanos;
+		windowTimer = HashedWheelTimer.SHARED.schedule(() -> onWindowTimeout(timerWindowSequence), delayNanos,
+				TimeUnit.NANOSECONDS);
+	}
+
+	private void scheduleThrottleTimer(long delayNanos) {
+		long deadlineNanos = System.nanoTime() + delayNanos;
+		if (throttleTimer != null && deadlineNanos - throttleTimerDeadlineNanos >= 0) {
+			return; // it already fires before
+		}
+		if (throttleTimer != null) {
+			throttleTimer.cancel();
+		}
+		throttleTimerDeadlineNanos = deadlineNanos;
+		throttleTimer = HashedWheelTimer.SHARED.schedule(this::onThrottleTimeout, delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private void cancelWindowTimer() {
+		if (windowTimer != null) {
+			windowTimer.cancel();
+			windowTimer = null;
+		}
+	}
+
+	/**
+	 * the size of the current time window to be compared with maxSize: the count
+	 * of distinct arguments if countDistinctArguments, otherwise the count of
+	 * invocations
+	 */
+	private int getPendingSize() {
+		return countDistinctArguments ? pendingTupleMap.size() : pendingTupleList.size();
+	}
+
+	/**
+	 * the slots of the buffer the given tuples would take if duplicates are
+	 * removed on enlist: the ones whose arguments are not pending in the window
+	 * they are collected in. The windows are taken as in addAll(...), as the
+	 * arguments pending before the tuples are enlisted may no longer be pending
+	 * when the later ones are
+	 */
+	private int countRequiredSlots(List<Tuple<T>> tupleList) {
+		int requiredSlots = 0;
+		boolean pendingWindow = true; // the window is still the one of pendingTupleMap
+		Set<Tuple<T>> windowTupleSet = new HashSet<>();
+		int windowSize = pendingTupleList.size();
+		long windowWeight = pendingWeight;
+		for (Tuple<T> tuple : tupleList) {
+			if ((pendingWindow && pendingTupleMap.containsKey(tuple)) || windowTupleSet.contains(tuple)) {
+				continue;
+			}
+			if (windowSize > 0 && windowWeight + tuple.getWeight() > maxWeight) {
+				pendingWindow = false;
+				windowTupleSet.clear();
+				windowSize = 0;
+				windowWeight = 0;
+			}
+			windowTupleSet.add(tuple);
+			windowSize++;
+			windowWeight += tuple.getWeight();
+			requiredSlots++;
+			if (windowSize >= maxSize || windowWeight >= maxWeight) {
+				pendingWindow = false;
+				windowTupleSet.clear();
+				windowSize = 0;
+				windowWeight = 0;
+			}
+		}
+		return requiredSlots;
+	}
+
+	private List<Tuple<T>> takePendingTupleList() {
+		List<Tuple<T>> tupleList = pendingTupleList;
+		pendingTupleList = new ArrayList<>();
+		pendingWeight = 0;
+		if (!pendingTupleMap.isEmpty()) {
+			pendingTupleMap = new HashMap<>();
+		}
+		windowSequence++;
+		cancelWindowTimer();
+		return tupleList;
+	}
+
+	private void dispatch(List<List<Tuple<T>>> tupleLists) {
+		for (List<Tuple<T>> tupleList : tupleLists) {
+			batchDispatcher.accept(this, tupleList);
+		}
+	}
+
+	/**
+	 * the ready tuples of a tenant and its deficit while they are distributed
+	 */
+	private static class TenantQueue<T> {
+		private final Deque<Tuple<T>> tuples = new ArrayDeque<>();
+		private long deficit;
+	}
+
+	/**
+	 * the view of the pending tuples given to the flushPolicy, only read while
+	 * holding the lock of the accumulator
+	 */
+	private class PendingState implements FlushPolicy.State {
+
+		@Override
+		public int getPendingCount() {
+			return pendingTupleList.size();
+		}
+
+		@Override
+		public int getDistinctCount() {
+			if (removeDuplicatesOnEnlist || countDistinctArguments) {
+				return pendingTupleMap.size();
+			}
+			return new HashSet<>(pendingTupleList).size();
+		}
+
+		@Override
+		public Duration getOldestAge() {
+			return Duration.ofNanos(System.nanoTime() - windowOpenedNanos);
+		}
+
+		@Override
+		public int getInFlightCallBacks() {
+			return inFlightBatches;
+		}
+
+		@Override
+		public long getPendingWeight() {
+			return pendingWeight;
+		}
+
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public Duration getDuration() {
+			return duration;
+		}
+	}
+}
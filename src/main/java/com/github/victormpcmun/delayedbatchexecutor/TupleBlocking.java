@@ -1,20 +1,51 @@
 package com.github.victormpcmun.delayedbatchexecutor;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 class TupleBlocking<T> extends TupleFuture<T> {
 
+	private static final Runnable ABANDONED = () -> {
+	};
+
+	private final AtomicReference<Runnable> batchRunnable;
+
 	TupleBlocking(Object... argsAsArray) {
 		super(argsAsArray);
+		this.batchRunnable = new AtomicReference<>();
+	}
+
+	/**
+	 * the thread blocked (or about to block) on this tuple becomes the leader of
+	 * its batch: it runs the given batch by itself instead of waiting for a
+	 * thread of the ExecutorService. False if that thread has already given up
+	 * waiting, so the batch must be run by somebody else
+	 */
+	boolean lead(Runnable batchRunnable) {
+		if (!this.batchRunnable.compareAndSet(null, batchRunnable)) {
+			return false;
+		}
+		wakeUpWaitingThreads();
+		return true;
 	}
 
 	T getValueBlocking() {
 		try {
+			awaitUntil(() -> isDone() || batchRunnable.get() != null);
+			Runnable batchRunnableToRun = batchRunnable.getAndSet(ABANDONED);
+			if (batchRunnableToRun != null) {
+				batchRunnableToRun.run();
+			}
 			return get();
 		} catch (ExecutionException e) {
 			throw (RuntimeException) e.getCause();
 		} catch (InterruptedException e) {
-			throw new RuntimeException("Interrupted waiting.  it shouldn't happen ever", e);
+			Runnable batchRunnableToRun = batchRunnable.getAndSet(ABANDONED);
+			if (batchRunnableToRun != null) {
+				batchRunnableToRun.run(); // the rest of the batch does not depend on this thread being interrupted
+			}
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted waiting for the result", e);
 		}
 	}
 }
@@ -0,0 +1,25 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.function.Consumer;
+
+class TupleFlux<T> extends Tuple<T> {
+
+	private final Consumer<TupleFlux<T>> continueConsumer;
+	private volatile boolean done;
+
+	TupleFlux(Consumer<TupleFlux<T>> continueConsumer, Object... argsAsArray) {
+		super(argsAsArray);
+		this.continueConsumer = continueConsumer;
+		this.done = false;
+	}
+
+	boolean isDone() {
+		return done;
+	}
+
+	@Override
+	void continueIfIsWaiting() {
+		done = true;
+		continueConsumer.accept(this);
+	}
+}
@@ -0,0 +1,281 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Subscriber of the Publisher given to executeMany(...): it requests from
+ * upstream no more elements than the downstream demand and the max in flight,
+ * enlists the elements received within the same request in bulk and emits the
+ * results to the {@link FluxSink}, either in input order or in completion order
+ */
+class TupleFluxSubscriber<E, T> implements Subscriber<E> {
+
+	private final FluxSink<T> fluxSink;
+	private final Consumer<List<Tuple<T>>> tupleListEnlister;
+	private final Function<E, Object[]> argumentsMapper;
+	private final int maxInFlight;
+	private final int chunkSize;
+	private final int replenishThreshold;
+	private final boolean preserveOrder;
+	private final Queue<TupleFlux<T>> orderedTupleQueue;
+
+	private Subscription subscription;
+	private List<Tuple<T>> chunk;
+	private List<T> resultsToEmit; // emitted by drain() without holding the lock
+	private RuntimeException terminalException; // null if the terminal signal is complete
+	private boolean terminalSignalPending;
+	private boolean upstreamCancelPending;
+	private boolean draining;
+	private long requested; // requested from upstream, not received yet
+	private long pending; // received from upstream, result not emitted yet
+	private int requestingCounter;
+	private boolean upstreamDone;
+	private boolean terminated;
+
+	TupleFluxSubscriber(FluxSink<T> fluxSink, Consumer<List<Tuple<T>>> tupleListEnlister,
+			Function<E, Object[]> argumentsMapper, int maxInFlight, int chunkSize, boolean preserveOrder) {
+		this.fluxSink = fluxSink;
+		this.tupleListEnlister = tupleListEnlister;
+		this.argumentsMapper = argumentsMapper;
+		this.maxInFlight = maxInFlight;
+		this.chunkSize = chunkSize;
+		this.replenishThreshold = Math.max(1, Math.min(maxInFlight, chunkSize) / 2);
+		this.preserveOrder = preserveOrder;
+		this.orderedTupleQueue = new ArrayDeque<>();
+		this.chunk = new ArrayList<>();
+		this.resultsToEmit = new ArrayList<>();
+	}
+
+	@Override
+	public void onSubscribe(Subscription subscription) {
+		boolean cancelled;
+		synchronized (this) {
+			this.subscription = subscription;
+			cancelled = terminated;
+		}
+		if (cancelled) {
+			subscription.cancel(); // the Flux was disposed before subscribing
+			return;
+		}
+		requestUpstream();
+	}
+
+	@Override
+	public void onNext(E element) {
+		TupleFlux<T> tupleFlux = new TupleFlux<>(this::onTupleContinued, argumentsMapper.apply(element));
+		List<Tuple<T>> chunkToEnlist = null;
+		synchronized (this) {
+			if (terminated) {
+				return;
+			}
+			requested--;
+			pending++;
+			chunk.add(tupleFlux);
+			if (preserveOrder) {
+				orderedTupleQueue.add(tupleFlux);
+			}
+			// elements received within a request are enlisted when the request returns
+			if (requestingCounter == 0 || chunk.size() >= chunkSize) {
+				chunkToEnlist = takeChunk();
+			}
+		}
+		enlist(chunkToEnlist);
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		synchronized (this) {
+			fail(TupleListResultSink.toRuntimeException(throwable));
+		}
+		drain();
+	}
+
+	@Override
+	public void onComplete() {
+		List<Tuple<T>> chunkToEnlist;
+		synchronized (this) {
+			upstreamDone = true;
+			requested = 0;
+			chunkToEnlist = takeChunk();
+		}
+		enlist(chunkToEnlist);
+		synchronized (this) {
+			completeIfFinished();
+		}
+		drain();
+	}
+
+	/**
+	 * to be invoked when the downstream requests more elements or the Flux is
+	 * subscribed
+	 */
+	void requestUpstream() {
+		long toRequest;
+		synchronized (this) {
+			if (terminated || upstreamDone || subscription == null) {
+				return;
+			}
+			long inFlight = requested + pending;
+			toRequest = Math.min(fluxSink.requestedFromDownstream(), maxInFlight) - inFlight;
+			if (toRequest <= 0 || (inFlight > 0 && toRequest < replenishThreshold)) {
+				return;
+			}
+			requested += toRequest;
+			requestingCounter++;
+		}
+		try {
+			subscription.request(toRequest);
+		} finally {
+			List<Tuple<T>> chunkToEnlist;
+			synchronized (this) {
+				requestingCounter--;
+				chunkToEnlist = takeChunk();
+			}
+			enlist(chunkToEnlist);
+		}
+	}
+
+	/**
+	 * to be invoked when the Flux is disposed (cancelled or terminated)
+	 */
+	void cancel() {
+		Subscription subscriptionToCancel;
+		synchronized (this) {
+			terminated = true;
+			subscriptionToCancel = subscription;
+		}
+		if (subscriptionToCancel != null) {
+			subscriptionToCancel.cancel();
+		}
+	}
+
+	private void onTupleContinued(TupleFlux<T> tupleFlux) {
+		synchronized (this) {
+			if (terminated) {
+				return;
+			}
+			if (preserveOrder) {
+				while (!terminated && !orderedTupleQueue.isEmpty() && orderedTupleQueue.peek().isDone()) {
+					emit(orderedTupleQueue.poll());
+				}
+			} else {
+				emit(tupleFlux);
+			}
+			completeIfFinished();
+		}
+		drain();
+		requestUpstream();
+	}
+
+	private void emit(TupleFlux<T> tupleFlux) {
+		pending--;
+		if (tupleFlux.hasRuntimeException()) {
+			fail(tupleFlux.getRuntimeException());
+		} else if (tupleFlux.getResult() != null) {
+			resultsToEmit.add(tupleFlux.getResult());
+		}
+	}
+
+	/**
+	 * the results and the terminal signal queued holding the lock are passed to
+	 * the FluxSink (and the upstream is cancelled) without holding it, as they
+	 * run code of the downstream and the upstream. Only one thread drains at a
+	 * time, so they keep their order
+	 */
+	private void drain() {
+		synchronized (this) {
+			if (draining) {
+				return; // the draining thread takes what has been queued
+			}
+			draining = true;
+		}
+		while (true) {
+			List<T> resultList;
+			Subscription subscriptionToCancel = null;
+			boolean signalTerminal;
+			RuntimeException exception;
+			synchronized (this) {
+				if (resultsToEmit.isEmpty() && !upstreamCancelPending && !terminalSignalPending) {
+					draining = false;
+					return;
+				}
+				resultList = resultsToEmit;
+				resultsToEmit = new ArrayList<>();
+				if (upstreamCancelPending) {
+					subscriptionToCancel = subscription;
+					upstreamCancelPending = false;
+				}
+				signalTerminal = terminalSignalPending;
+				terminalSignalPending = false;
+				exception = terminalException;
+			}
+			for (T result : resultList) {
+				fluxSink.next(result);
+			}
+			if (subscriptionToCancel != null) {
+				subscriptionToCancel.cancel();
+			}
+			if (signalTerminal && exception != null) {
+				fluxSink.error(exception);
+			} else if (signalTerminal) {
+				fluxSink.complete();
+			}
+		}
+	}
+
+	private void enlist(List<Tuple<T>> tupleList) {
+		if (tupleList == null || tupleList.isEmpty()) {
+			return;
+		}
+		try {
+			tupleListEnlister.accept(tupleList);
+		} catch (RuntimeException re) {
+			synchronized (this) {
+				fail(re);
+			}
+			drain();
+		}
+	}
+
+	/**
+	 * invoked holding the lock, the signals are queued for drain()
+	 */
+	private void fail(RuntimeException runtimeException) {
+		if (terminated) {
+			return;
+		}
+		terminated = true;
+		terminalException = runtimeException;
+		terminalSignalPending = true;
+		upstreamCancelPending = true;
+	}
+
+	/**
+	 * invoked holding the lock, the signal is queued for drain()
+	 */
+	private void completeIfFinished() {
+		if (!terminated && upstreamDone && pending == 0) {
+			terminated = true;
+			terminalSignalPending = true;
+		}
+	}
+
+	private List<Tuple<T>> takeChunk() {
+		if (chunk.isEmpty()) {
+			return null;
+		}
+		List<Tuple<T>> takenChunk = chunk;
+		chunk = new ArrayList<>();
+		return takenChunk;
+	}
+}
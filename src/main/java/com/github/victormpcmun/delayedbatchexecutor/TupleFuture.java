@@ -6,29 +6,68 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 
 class TupleFuture<T> extends Tuple<T> implements Future<T> {
 
 	private final Instant initInstant;
 	private Instant endInstant;
-	private boolean done;
+	private volatile boolean done;
+	private volatile int waitingThreads; // parked on the monitor of this tuple
+	private WaitStrategy waitStrategy;
 
 	TupleFuture(Object... argsAsArray) {
 		super(argsAsArray);
 		this.done = false;
+		this.waitingThreads = 0;
+		this.waitStrategy = WaitStrategy.PARK;
 		this.initInstant = Instant.now();
 	}
 
+	void setWaitStrategy(WaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+	}
+
 	Future<T> getFuture() {
 		return this;
 	}
 
 	@Override
 	void continueIfIsWaiting() {
+		this.endInstant = Instant.now();
+		this.done = true;
+		wakeUpWaitingThreads();
+	}
+
+	/**
+	 * the monitor is only taken if there are threads parked on it, as the
+	 * spinning ones see done as soon as it is set
+	 */
+	protected void wakeUpWaitingThreads() {
+		if (waitingThreads > 0) {
+			synchronized (this) {
+				this.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * waits by the waitStrategy until the given condition is met, which must be
+	 * followed by wakeUpWaitingThreads() when it changes
+	 */
+	protected void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		if (waitStrategy.spinUntil(condition)) {
+			return;
+		}
 		synchronized (this) {
-			this.endInstant = Instant.now();
-			this.done = true;
-			this.notify();
+			waitingThreads++;
+			try {
+				while (!condition.getAsBoolean()) {
+					this.wait();
+				}
+			} finally {
+				waitingThreads--;
+			}
 		}
 	}
 
@@ -67,17 +106,22 @@ class TupleFuture<T> extends Tuple<T> implements Future<T> {
 	}
 
 	private T get(long millisecondsWait) throws InterruptedException, ExecutionException, TimeoutException {
-		synchronized (this) {
-			if (!done) {
-				if (millisecondsWait == 0L) {
-					this.wait();
-				} else {
-					this.wait(millisecondsWait);
+		if (millisecondsWait == 0L) {
+			awaitUntil(this::isDone);
+		} else if (!done) {
+			synchronized (this) {
+				waitingThreads++;
+				try {
 					if (!done) {
-						throw new TimeoutException("can not get the result in " + millisecondsWait);
+						this.wait(millisecondsWait);
 					}
+				} finally {
+					waitingThreads--;
 				}
 			}
+			if (!done) {
+				throw new TimeoutException("can not get the result in " + millisecondsWait);
+			}
 		}
 		if (hasRuntimeException()) {
 			throw new ExecutionException(getRuntimeException());
@@ -0,0 +1,87 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * How the key of a tuple is obtained from its arguments: the key decides
+ * which tuples are duplicated and which tuples are given a result emitted for
+ * some arguments. By default the key is the list of all of the arguments
+ */
+class TupleKeyStrategy {
+
+	static final TupleKeyStrategy ALL_ARGUMENTS = new TupleKeyStrategy(null, false);
+
+	private final Function<List<Object>, Object> keyExtractor;
+	private final boolean identityKeys;
+
+	TupleKeyStrategy(Function<List<Object>, Object> keyExtractor, boolean identityKeys) {
+		this.keyExtractor = keyExtractor;
+		this.identityKeys = identityKeys;
+	}
+
+	boolean isAllArguments() {
+		return keyExtractor == null && !identityKeys;
+	}
+
+	Object getKeyOfArguments(List<Object> argumentList) {
+		return getKey(keyExtractor == null ? argumentList : keyExtractor.apply(argumentList));
+	}
+
+	/**
+	 * the key to be compared with the ones of the tuples, given the one returned
+	 * by the key extractor (or the list of arguments if there is none)
+	 */
+	Object getKey(Object extractedKey) {
+		if (!identityKeys) {
+			return extractedKey;
+		}
+		if (keyExtractor == null) {
+			if (!(extractedKey instanceof List)) {
+				throw new IllegalArgumentException(
+						"Without a key extractor, the key must be the list of arguments: " + extractedKey);
+			}
+			return new IdentityKey(((List<?>) extractedKey).toArray());
+		}
+		return new IdentityKey(new Object[] { extractedKey });
+	}
+
+	/**
+	 * key comparing its components by reference, so neither equals(...) nor
+	 * hashCode() of the arguments are invoked
+	 */
+	private static final class IdentityKey {
+		private final Object[] components;
+		private final int hashCode;
+
+		private IdentityKey(Object[] components) {
+			this.components = components;
+			int identityHashCode = 1;
+			for (Object component : components) {
+				identityHashCode = 31 * identityHashCode + System.identityHashCode(component);
+			}
+			this.hashCode = identityHashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this)
+				return true;
+			if (!(o instanceof IdentityKey))
+				return false;
+			Object[] otherComponents = ((IdentityKey) o).components;
+			if (otherComponents.length != components.length)
+				return false;
+			for (int index = 0; index < components.length; index++) {
+				if (components[index] != otherComponents[index])
+					return false;
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
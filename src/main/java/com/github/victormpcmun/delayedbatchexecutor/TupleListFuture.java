@@ -0,0 +1,135 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future of the results of a list of invocations enlisted all together: it is
+ * done when all of them have been given their result or as soon as one of them
+ * gets a {@link RuntimeException}
+ */
+class TupleListFuture<T> implements Future<List<T>> {
+
+	private final List<Tuple<T>> tupleList;
+	private final Object[] resultArray;
+	private int remaining;
+	private RuntimeException runtimeException;
+	private boolean done;
+
+	TupleListFuture(List<Object[]> argsAsArrayList) {
+		this.tupleList = new ArrayList<>(argsAsArrayList.size());
+		for (int index = 0; index < argsAsArrayList.size(); index++) {
+			tupleList.add(new TupleListElement(index, argsAsArrayList.get(index)));
+		}
+		this.resultArray = new Object[argsAsArrayList.size()];
+		this.remaining = argsAsArrayList.size();
+		this.done = remaining == 0;
+	}
+
+	List<Tuple<T>> getTupleList() {
+		return tupleList;
+	}
+
+	Future<List<T>> getFuture() {
+		return this;
+	}
+
+	List<T> getValueBlocking() {
+		try {
+			return get();
+		} catch (ExecutionException e) {
+			throw (RuntimeException) e.getCause();
+		} catch (InterruptedException e) {
+			throw new RuntimeException("Interrupted waiting.  it shouldn't happen ever", e);
+		}
+	}
+
+	@Override
+	public synchronized boolean isDone() {
+		return done;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return false;
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return false;
+	}
+
+	@Override
+	public List<T> get() throws InterruptedException, ExecutionException {
+		try {
+			return get(0L);
+		} catch (TimeoutException te) {
+			throw new RuntimeException("This RuntimeException should never thrown at this point.", te);
+		}
+	}
+
+	@Override
+	public List<T> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		long milliseconds = TimeUnit.MILLISECONDS.convert(timeout, unit);
+		return get(milliseconds);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> get(long millisecondsWait) throws InterruptedException, ExecutionException, TimeoutException {
+		synchronized (this) {
+			if (!done) {
+				if (millisecondsWait == 0L) {
+					while (!done) {
+						this.wait();
+					}
+				} else {
+					this.wait(millisecondsWait);
+					if (!done) {
+						throw new TimeoutException("can not get the result in " + millisecondsWait);
+					}
+				}
+			}
+			if (runtimeException != null) {
+				throw new ExecutionException(runtimeException);
+			}
+			return (List<T>) Collections.unmodifiableList(Arrays.asList(resultArray));
+		}
+	}
+
+	private synchronized void continueElement(TupleListElement tupleListElement) {
+		if (done) {
+			return;
+		}
+		if (tupleListElement.hasRuntimeException()) {
+			runtimeException = tupleListElement.getRuntimeException();
+			done = true;
+		} else {
+			resultArray[tupleListElement.index] = tupleListElement.getResult();
+			remaining--;
+			done = remaining == 0;
+		}
+		if (done) {
+			this.notifyAll();
+		}
+	}
+
+	private class TupleListElement extends Tuple<T> {
+		private final int index;
+
+		private TupleListElement(int index, Object... argsAsArray) {
+			super(argsAsArray);
+			this.index = index;
+		}
+
+		@Override
+		void continueIfIsWaiting() {
+			continueElement(this);
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+class TupleListResultSink<T> implements BatchResultSink<T> {
+
+	private final List<Tuple<T>> tupleList;
+	private final Runnable afterContinue;
+	private final TupleKeyStrategy tupleKeyStrategy;
+	private final ExecutorService completionExecutorService;
+	private final int completionChunkSize;
+	private final boolean[] continued;
+	private final AtomicInteger unfinishedContinuations;
+	private int continuedCounter;
+	private boolean finished;
+	private Map<Object, List<Integer>> indexesByKey;
+
+	TupleListResultSink(List<Tuple<T>> tupleList, TupleKeyStrategy tupleKeyStrategy, Runnable afterContinue) {
+		this(tupleList, tupleKeyStrategy, null, Integer.MAX_VALUE, afterContinue);
+	}
+
+	/**
+	 * if completionExecutorService is not null, the tuples are continued by it,
+	 * in chunks of completionChunkSize
+	 */
+	TupleListResultSink(List<Tuple<T>> tupleList, TupleKeyStrategy tupleKeyStrategy,
+			ExecutorService completionExecutorService, int completionChunkSize, Runnable afterContinue) {
+		this.tupleList = tupleList;
+		this.afterContinue = afterContinue;
+		this.tupleKeyStrategy = tupleKeyStrategy;
+		this.completionExecutorService = completionExecutorService;
+		this.completionChunkSize = completionChunkSize;
+		this.continued = new boolean[tupleList.size()];
+		this.unfinishedContinuations = new AtomicInteger(tupleList.size());
+		this.continuedCounter = 0;
+		this.finished = false;
+	}
+
+	@Override
+	public void emit(int index, T result) {
+		if (index < 0 || index >= tupleList.size()) {
+			throw new IndexOutOfBoundsException("There is no argument at index " + index);
+		}
+		synchronized (this) {
+			if (finished || continued[index]) {
+				return;
+			}
+			continued[index] = true;
+			continuedCounter++;
+			finished = continuedCounter == tupleList.size();
+		}
+		continueInChunks(Collections.singletonList(index), resultIndex -> result, null);
+	}
+
+	@Override
+	public void emitForArguments(T result, Object... arguments) {
+		emitForTupleKey(result, tupleKeyStrategy.getKeyOfArguments(Arrays.asList(arguments)));
+	}
+
+	@Override
+	public void emitForKey(T result, Object key) {
+		emitForTupleKey(result, tupleKeyStrategy.getKey(key));
+	}
+
+	@Override
+	public void completeWith(List<T> resultList) {
+		if (completionExecutorService == null) {
+			BatchResultSink.super.completeWith(resultList);
+			return;
+		}
+		continueRemaining(index -> resultList != null && index < resultList.size() ? resultList.get(index) : null,
+				null);
+	}
+
+	@Override
+	public void complete() {
+		continueRemaining(index -> null, null);
+	}
+
+	@Override
+	public void error(RuntimeException runtimeException) {
+		continueRemaining(index -> null, runtimeException);
+	}
+
+	static RuntimeException toRuntimeException(Throwable throwable) {
+		if (throwable instanceof CompletionException && throwable.getCause() != null) {
+			throwable = throwable.getCause(); // unwrap the exception of the CompletionStage
+		}
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException) throwable;
+		}
+		return new CompletionException(throwable);
+	}
+
+	/**
+	 * the tuples not continued yet are taken holding the lock, but they are
+	 * continued without holding it
+	 */
+	private void continueRemaining(IntFunction<T> resultByIndex, RuntimeException runtimeException) {
+		List<Integer> indexesToContinue = new ArrayList<>();
+		synchronized (this) {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			for (int index = 0; index < tupleList.size(); index++) {
+				if (!continued[index]) {
+					continued[index] = true;
+					indexesToContinue.add(index);
+				}
+			}
+		}
+		continueInChunks(indexesToContinue, resultByIndex, runtimeException);
+	}
+
+	/**
+	 * the chunks are continued concurrently by the completionExecutorService (or
+	 * by the current thread if there is none or it is rejected), and the last
+	 * tuple of the sink to be continued runs afterContinue
+	 */
+	private void continueInChunks(List<Integer> indexesToContinue, IntFunction<T> resultByIndex,
+			RuntimeException runtimeException) {
+		if (indexesToContinue.isEmpty()) {
+			return;
+		}
+		int chunks = (indexesToContinue.size() - 1) / completionChunkSize + 1;
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			List<Integer> chunkIndexes = indexesToContinue.subList(chunk * completionChunkSize,
+					Math.min(indexesToContinue.size(), (chunk + 1) * completionChunkSize));
+			Runnable chunkRunnable = () -> {
+				for (Integer index : chunkIndexes) {
+					tupleList.get(index).setResultAndContinue(resultByIndex.apply(index), runtimeException);
+				}
+				if (unfinishedContinuations.addAndGet(-chunkIndexes.size()) == 0) {
+					afterContinue.run();
+				}
+			};
+			if (completionExecutorService == null) {
+				chunkRunnable.run();
+				continue;
+			}
+			try {
+				completionExecutorService.execute(chunkRunnable);
+			} catch (RejectedExecutionException ree) {
+				chunkRunnable.run();
+			}
+		}
+	}
+
+	private void emitForTupleKey(T result, Object tupleKey) {
+		List<Integer> indexes;
+		synchronized (this) {
+			if (indexesByKey == null) {
+				indexesByKey = buildIndexesByKey();
+			}
+			indexes = indexesByKey.get(tupleKey);
+		}
+		if (indexes != null) {
+			for (Integer index : indexes) {
+				emit(index, result);
+			}
+		}
+	}
+
+	private Map<Object, List<Integer>> buildIndexesByKey() {
+		Map<Object, List<Integer>> map = new HashMap<>();
+		for (int index = 0; index < tupleList.size(); index++) {
+			map.computeIfAbsent(tupleList.get(index).getKey(), key -> new ArrayList<>()).add(index);
+		}
+		return map;
+	}
+}
@@ -0,0 +1,44 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TupleListSplitter {
+
+	/**
+	 * split the given list in up to the given number of consecutive sub lists
+	 * with roughly the same weight (the same size if all of the weights are
+	 * equal)
+	 */
+	static <T> List<List<Tuple<T>>> splitByWeight(List<Tuple<T>> tupleList, int parts) {
+		List<List<Tuple<T>>> subTupleLists = new ArrayList<>(parts);
+		if (parts <= 1 || tupleList.size() <= 1) {
+			subTupleLists.add(tupleList);
+			return subTupleLists;
+		}
+		long totalWeight = 0;
+		for (Tuple<T> tuple : tupleList) {
+			totalWeight += tuple.getWeight();
+		}
+		boolean countTuples = totalWeight == 0; // all of them weigh 0
+		if (countTuples) {
+			totalWeight = tupleList.size();
+		}
+		List<Tuple<T>> subTupleList = new ArrayList<>();
+		long accumulatedWeight = 0;
+		for (int index = 0; index < tupleList.size(); index++) {
+			Tuple<T> tuple = tupleList.get(index);
+			subTupleList.add(tuple);
+			accumulatedWeight += countTuples ? 1 : tuple.getWeight();
+			boolean lastTuple = index == tupleList.size() - 1;
+			boolean lastPart = subTupleLists.size() == parts - 1;
+			long partWeightLimit = totalWeight * (subTupleLists.size() + 1) / parts;
+			if (!lastTuple && !lastPart && accumulatedWeight >= partWeightLimit) {
+				subTupleLists.add(subTupleList);
+				subTupleList = new ArrayList<>();
+			}
+		}
+		subTupleLists.add(subTupleList);
+		return subTupleLists;
+	}
+}
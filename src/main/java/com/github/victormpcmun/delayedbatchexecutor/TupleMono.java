@@ -1,45 +1,37 @@
 package com.github.victormpcmun.delayedbatchexecutor;
 
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 class TupleMono<T> extends Tuple<T> {
 
-	private Mono<T> mono;
-	private boolean done;
+	private final MonoSink<T> monoSink;
+	private volatile boolean cancelled;
 
-	private Object locker = new Object();
-
-	TupleMono(Object... argsAsArray) {
+	TupleMono(MonoSink<T> monoSink, Object... argsAsArray) {
 		super(argsAsArray);
-		this.done = false;
-		this.mono = Mono.create(monoSink -> {
-			if (!done) {
-				try {
-					// TODO: avoid this wait, any good suggestion of how to do it ?
-					synchronized (locker) {
-						locker.wait();
-					}
-				} catch (InterruptedException e) {
-					throw new RuntimeException("Can not get Value from thread");
-				}
-			}
-			if (hasRuntimeException()) {
-				monoSink.error(getRuntimeException());
-			} else {
-				monoSink.success(result);
-			}
-		});
+		this.monoSink = monoSink;
+		this.cancelled = false;
+	}
+
+	/**
+	 * to be invoked when the subscription is cancelled, so this tuple is removed
+	 * from its batch if it has not been executed yet
+	 */
+	void cancel() {
+		cancelled = true;
 	}
 
-	Mono<T> getMono() {
-		return mono;
+	@Override
+	boolean isCancelled() {
+		return cancelled;
 	}
 
 	@Override
 	void continueIfIsWaiting() {
-		synchronized (locker) {
-			this.done = true;
-			locker.notify();
+		if (hasRuntimeException()) {
+			monoSink.error(getRuntimeException());
+		} else {
+			monoSink.success(result);
 		}
 	}
 }
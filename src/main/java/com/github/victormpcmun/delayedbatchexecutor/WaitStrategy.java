@@ -0,0 +1,94 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How the threads waiting for their result (in execute(...) or in the get()
+ * method of the {@link java.util.concurrent.Future} returned by
+ * executeAsFuture(...)) wait for it (see
+ * {@link DelayedBatchExecutorConfig#withWaitStrategy(WaitStrategy)}). The
+ * strategies spinning save the cost of parking and unparking the waiting
+ * thread, which may dominate with time windows of less than one millisecond,
+ * at the expense of CPU <br>
+ *
+ * @author Victor Porcar
+ *
+ */
+public enum WaitStrategy {
+
+	/**
+	 * The waiting thread is parked until its result is available. It is the
+	 * default one
+	 */
+	PARK(0, 0),
+
+	/**
+	 * The waiting thread spins for a while, then yields for a while and is
+	 * parked at last if its result is not available yet
+	 */
+	SPIN_YIELD_PARK(1000, 100),
+
+	/**
+	 * The waiting thread spins (by means of Thread.onSpinWait() if available)
+	 * until its result is available, keeping a CPU core busy. Only suitable when
+	 * there are more CPU cores than waiting threads
+	 */
+	BUSY_SPIN(Integer.MAX_VALUE, 0);
+
+	private static final MethodHandle ON_SPIN_WAIT = findOnSpinWait();
+
+	private final int spins;
+	private final int yields;
+
+	WaitStrategy(int spins, int yields) {
+		this.spins = spins;
+		this.yields = yields;
+	}
+
+	/**
+	 * spins and yields as long as this strategy says so, returning true as soon
+	 * as the given condition is met, or false if the thread is to be parked
+	 */
+	boolean spinUntil(BooleanSupplier condition) throws InterruptedException {
+		for (int spin = 0; spins == Integer.MAX_VALUE || spin < spins; spin++) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			onSpinWait();
+		}
+		for (int yield = 0; yield < yields; yield++) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.yield();
+		}
+		return condition.getAsBoolean();
+	}
+
+	private static void onSpinWait() {
+		if (ON_SPIN_WAIT != null) {
+			try {
+				ON_SPIN_WAIT.invokeExact();
+			} catch (Throwable throwable) {
+				// it never happens, Thread.onSpinWait() does not throw
+			}
+		}
+	}
+
+	/**
+	 * Thread.onSpinWait() is available since Java 9
+	 */
+	private static MethodHandle findOnSpinWait() {
+		try {
+			return MethodHandles.lookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
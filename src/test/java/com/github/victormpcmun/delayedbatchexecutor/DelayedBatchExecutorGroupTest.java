@@ -0,0 +1,188 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class DelayedBatchExecutorGroupTest {
+
+	@Test
+	public void weightedFairQueuingTest() throws InterruptedException {
+		DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(1);
+		ExecutorService noisyMember = group.newMemberExecutorService(1);
+		ExecutorService quietMember = group.newMemberExecutorService(1);
+		List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch blockingLatch = new CountDownLatch(1);
+		CountDownLatch finishedLatch = new CountDownLatch(9);
+
+		noisyMember.execute(() -> awaitLatch(blockingLatch)); // keeps busy the only thread of the group
+		for (int i = 0; i < 6; i++) {
+			noisyMember.execute(() -> {
+				executionOrder.add("N");
+				finishedLatch.countDown();
+			});
+		}
+		for (int i = 0; i < 3; i++) {
+			quietMember.execute(() -> {
+				executionOrder.add("Q");
+				finishedLatch.countDown();
+			});
+		}
+		Assert.assertEquals(9, group.getQueuedCallBacks());
+		blockingLatch.countDown();
+		Assert.assertTrue(finishedLatch.await(2, TimeUnit.SECONDS));
+
+		// the executions of the quiet member are not delayed after all of the ones of the noisy member
+		Assert.assertEquals("QNQNQNNNN", String.join("", executionOrder));
+		group.close();
+	}
+
+	@Test
+	public void earliestDeadlineFirstTest() throws InterruptedException {
+		DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(1, 1, true);
+		ExecutorService slowMember = group.newMemberExecutorService(1);
+		ExecutorService fastMember = group.newMemberExecutorService(1);
+		List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch blockingLatch = new CountDownLatch(1);
+		CountDownLatch finishedLatch = new CountDownLatch(4);
+		long nowNanos = System.nanoTime();
+
+		slowMember.execute(() -> awaitLatch(blockingLatch)); // keeps busy the only thread of the group
+		slowMember.execute(new BatchRunnable(nowNanos + TimeUnit.SECONDS.toNanos(2), batchFinishListener -> {
+			executionOrder.add("S2");
+			finishedLatch.countDown();
+			batchFinishListener.run();
+		}));
+		slowMember.execute(new BatchRunnable(nowNanos + TimeUnit.SECONDS.toNanos(1), batchFinishListener -> {
+			executionOrder.add("S1");
+			finishedLatch.countDown();
+			batchFinishListener.run();
+		}));
+		fastMember.execute(new BatchRunnable(nowNanos + TimeUnit.MILLISECONDS.toNanos(10), batchFinishListener -> {
+			executionOrder.add("F");
+			finishedLatch.countDown();
+			batchFinishListener.run();
+		}));
+		fastMember.execute(new BatchRunnable(nowNanos - TimeUnit.MILLISECONDS.toNanos(10), batchFinishListener -> {
+			executionOrder.add("L"); // already late
+			finishedLatch.countDown();
+			batchFinishListener.run();
+		}));
+		blockingLatch.countDown();
+		Assert.assertTrue(finishedLatch.await(2, TimeUnit.SECONDS));
+
+		Assert.assertEquals("LFS1S2", String.join("", executionOrder));
+		group.close();
+	}
+
+	@Test
+	public void earliestDeadlineFirstMembersTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(2, 1, true);
+		DelayedBatchExecutor2<String, Integer> slowDbe = DelayedBatchExecutor2.create(Duration.ofMillis(200), 10,
+				group.newMemberExecutorService(1), DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true,
+				integerList -> integerList.stream().map(String::valueOf).collect(Collectors.toList()));
+		DelayedBatchExecutor2<String, Integer> fastDbe = DelayedBatchExecutor2.create(Duration.ofMillis(10), 10,
+				group.newMemberExecutorService(1), DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true,
+				integerList -> integerList.stream().map(i -> "f" + i).collect(Collectors.toList()));
+		List<Future<String>> slowFutureList = new ArrayList<>();
+		List<Future<String>> fastFutureList = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			slowFutureList.add(slowDbe.executeAsFuture(i));
+			fastFutureList.add(fastDbe.executeAsFuture(i));
+		}
+		for (int i = 0; i < 50; i++) {
+			Assert.assertEquals(String.valueOf(i), slowFutureList.get(i).get());
+			Assert.assertEquals("f" + i, fastFutureList.get(i).get());
+		}
+		Assert.assertTrue(group.isEarliestDeadlineFirst());
+		Assert.assertTrue(slowDbe.close(Duration.ofSeconds(1)));
+		Assert.assertTrue(fastDbe.close(Duration.ofSeconds(1)));
+		group.close();
+	}
+
+	@Test
+	public void membersSharingGroupTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(2, 1);
+		List<DelayedBatchExecutor2<String, Integer>> dbeList = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			dbeList.add(DelayedBatchExecutor2.create(Duration.ofMillis(10), 10, group.newMemberExecutorService(1),
+					DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true,
+					integerList -> integerList.stream().map(String::valueOf).collect(Collectors.toList())));
+		}
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			futureList.add(dbeList.get(i % dbeList.size()).executeAsFuture(i));
+		}
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(String.valueOf(i), futureList.get(i).get());
+		}
+		for (DelayedBatchExecutor2<String, Integer> dbe : dbeList) {
+			Assert.assertTrue(dbe.close(Duration.ofSeconds(1)));
+		}
+		group.close();
+	}
+
+	@Test
+	public void asyncMembersLimitTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutorGroup group = DelayedBatchExecutorGroup.create(1, 1);
+		CountDownLatch firstBatchLatch = new CountDownLatch(1);
+		DelayedBatchExecutor2<String, Integer> dbe = DelayedBatchExecutor2.createAsync(Duration.ofMillis(10), 1,
+				group.newMemberExecutorService(2), DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true,
+				integerList -> {
+					CompletableFuture<List<String>> completableFuture = new CompletableFuture<>();
+					new Thread(() -> {
+						if (integerList.get(0) == 0) {
+							awaitLatch(firstBatchLatch); // the first batch does not complete until released
+						}
+						completableFuture.complete(Collections.singletonList(String.valueOf(integerList.get(0))));
+					}).start();
+					return completableFuture;
+				});
+		Future<String> firstFuture = dbe.executeAsFuture(0);
+		Future<String> secondFuture = dbe.executeAsFuture(1);
+		long timeoutMillis = System.currentTimeMillis() + 2000;
+		while (group.getQueuedCallBacks() == 0 && System.currentTimeMillis() < timeoutMillis) {
+			Thread.sleep(5);
+		}
+
+		// the batchCallBack returned right away, but its batch keeps the only place in the group
+		Assert.assertEquals(1, group.getRunningCallBacks());
+		Assert.assertEquals(1, group.getQueuedCallBacks());
+		Assert.assertFalse(secondFuture.isDone());
+
+		firstBatchLatch.countDown();
+		Assert.assertEquals("0", firstFuture.get());
+		Assert.assertEquals("1", secondFuture.get());
+		Assert.assertTrue(dbe.close(Duration.ofSeconds(1)));
+		group.close();
+	}
+
+	@Test
+	public void maxConcurrentCallBacksGreaterThanThreadsTest() {
+		try {
+			DelayedBatchExecutorGroup.create(2, 3);
+			Assert.fail("more concurrent callbacks than threads must be rejected");
+		} catch (RuntimeException e) {
+			Assert.assertEquals("Illegal configuration parameters", e.getMessage());
+		}
+	}
+
+	private static void awaitLatch(CountDownLatch countDownLatch) {
+		try {
+			countDownLatch.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
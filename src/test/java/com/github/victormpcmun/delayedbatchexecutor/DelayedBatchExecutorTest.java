@@ -4,14 +4,25 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class DelayedBatchExecutorTest {
 	private final Logger log = LoggerFactory.getLogger(getClass());
@@ -240,14 +251,39 @@ public class DelayedBatchExecutorTest {
 			log.info("RESULT2 {} - DelayedTime: {}", result2, result2DelayedTime);
 			Assert.assertEquals(result1, PREFIX + value1);
 			Assert.assertEquals(result2, PREFIX + value2);
-			Assert.assertTrue(result1DelayedTime > windowTime1 * 1000);
-			Assert.assertTrue(result2DelayedTime > windowTime2 * 1000);
+			// the new window applies to the already buffered value as well
+			Assert.assertTrue(result1DelayedTime >= windowTime2 * 1000);
+			Assert.assertTrue(result1DelayedTime < windowTime1 * 1000);
+			Assert.assertTrue(result2DelayedTime < windowTime2 * 1000 + MAX_MILLISECONDS_SIMULATION_DELAY_CALLBACK);
 			log.info(dbe2.toString());
 		} catch (InterruptedException | ExecutionException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	@Test
+	public void changeConfigParamWhileExecutingTest() {
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(DBE_DURATION, DBE_MAX_SIZE,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		AtomicInteger updatesCounter = new AtomicInteger(0);
+		Callable<Void> callable = () -> {
+			for (int i = 0; i < 50; i++) {
+				Integer randomInteger = getRandomIntegerFromInterval(1, 1000);
+				if (randomInteger % 5 == 0) {
+					dbe2.updateConfig(Duration.ofMillis(getRandomIntegerFromInterval(1, 30)),
+							getRandomIntegerFromInterval(1, 20));
+					updatesCounter.incrementAndGet();
+				}
+				Assert.assertEquals(PREFIX + randomInteger, dbe2.execute(randomInteger));
+			}
+			return null;
+		};
+		List<Future<Void>> threadsAsFutures = createAndStartThreadsForCallable(CONCURRENT_THREADS, callable);
+		waitUntilFinishing(threadsAsFutures);
+		log.info("changeConfigParamWhileExecutingTest=>{} updates. {}", updatesCounter.get(), dbe2);
+		Assert.assertEquals(Long.valueOf(CONCURRENT_THREADS * 50), dbe2.getInvocationsCounter());
+	}
+
 	@Test(expected = TimeoutException.class)
 	public void futureTimeOutTest() throws InterruptedException, ExecutionException, TimeoutException {
 		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(2000), 2,
@@ -258,6 +294,27 @@ public class DelayedBatchExecutorTest {
 		futureResult1.get(1500, TimeUnit.MILLISECONDS);
 	}
 
+	@Test
+	public void closeFlushingPendingValuesTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofSeconds(10), 100,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		Future<String> futureResult1 = dbe2.executeAsFuture(1);
+		Future<String> futureResult2 = dbe2.executeAsFuture(2);
+		long before = System.currentTimeMillis();
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+		Assert.assertTrue(System.currentTimeMillis() - before < 5000); // the time window was not waited
+		Assert.assertTrue(dbe2.isClosed());
+		Assert.assertTrue(futureResult1.isDone());
+		Assert.assertEquals(PREFIX + 1, futureResult1.get());
+		Assert.assertEquals(PREFIX + 2, futureResult2.get());
+		try {
+			dbe2.executeAsFuture(3);
+			Assert.fail("a closed Delayed Batch Executor must not accept new invocations");
+		} catch (RejectedExecutionException e) {
+			log.info("closeFlushingPendingValuesTest=>new invocation rejected as expected");
+		}
+	}
+
 	// @Test
 	public void extremeLargeSizeTest() {
 		int fixedThreadPoolSize = 10;
@@ -426,6 +483,867 @@ public class DelayedBatchExecutorTest {
 		waitUntilFinishing(threadsAsFutures);
 	}
 
+	@Test
+	public void asyncBatchCallBackTest() throws InterruptedException, ExecutionException {
+		Map<Integer, CompletableFuture<List<String>>> completableFutureMap = new ConcurrentHashMap<>();
+		CountDownLatch allBatchesInFlightLatch = new CountDownLatch(20);
+		ExecutorService singleThreadExecutorService = Executors.newSingleThreadExecutor();
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.createAsync(Duration.ofMillis(10), 1,
+				singleThreadExecutorService, DelayedBatchExecutor.DEFAULT_BUFFER_QUEUE_SIZE, true,
+				integerList -> {
+					CompletableFuture<List<String>> completableFuture = new CompletableFuture<>();
+					if (integerList.get(0) < 0) {
+						completableFuture.completeExceptionally(new IllegalArgumentException());
+						return completableFuture;
+					}
+					completableFutureMap.put(integerList.get(0), completableFuture); // completed by the test
+					allBatchesInFlightLatch.countDown();
+					return completableFuture;
+				});
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			futureList.add(dbe2.executeAsFuture(i));
+		}
+
+		// a single thread had all of the batches in flight at the same time
+		Assert.assertTrue(allBatchesInFlightLatch.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 20; i++) {
+			Assert.assertFalse(futureList.get(i).isDone());
+		}
+		completableFutureMap.forEach((value, completableFuture) -> completableFuture
+				.complete(Collections.singletonList(PREFIX + value)));
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(PREFIX + i, futureList.get(i).get());
+		}
+		Assert.assertEquals(Long.valueOf(20), dbe2.getCallBackExecutionsCounter());
+		try {
+			dbe2.execute(-1);
+			Assert.fail("the exception completing the CompletionStage must be thrown");
+		} catch (IllegalArgumentException e) {
+			log.info("asyncBatchCallBackTest=>It is capturing successfully the exception");
+		}
+		singleThreadExecutorService.shutdown();
+	}
+
+	@Test
+	public void streamingBatchCallBackTest() throws InterruptedException, ExecutionException {
+		CountDownLatch lastResultLatch = new CountDownLatch(1);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.createStreaming(Duration.ofMillis(50), 4,
+				(integerList, resultSink) -> {
+					resultSink.emit(0, PREFIX + integerList.get(0));
+					resultSink.emitForArguments(PREFIX + 2, 2);
+					try {
+						lastResultLatch.await(); // the last row takes time to arrive
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					resultSink.emit(integerList.size() - 1, PREFIX + integerList.get(integerList.size() - 1));
+					resultSink.complete();
+				});
+		Future<String> futureResult1 = dbe2.executeAsFuture(1);
+		Future<String> futureResult2 = dbe2.executeAsFuture(2);
+		Future<String> futureResult2Duplicated = dbe2.executeAsFuture(2);
+		Future<String> futureResult3 = dbe2.executeAsFuture(3);
+		Future<String> futureResult4 = dbe2.executeAsFuture(4);
+
+		// given their result before the callback finishes
+		Assert.assertEquals(PREFIX + 1, futureResult1.get());
+		Assert.assertEquals(PREFIX + 2, futureResult2.get());
+		Assert.assertEquals(PREFIX + 2, futureResult2Duplicated.get());
+		Assert.assertFalse(futureResult3.isDone());
+		lastResultLatch.countDown();
+		Assert.assertEquals(PREFIX + 3, futureResult3.get());
+		Assert.assertEquals(PREFIX + 4, futureResult4.get()); // in a second batch
+	}
+
+	@Test
+	public void executeManyTest() {
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(50), 100,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		List<Integer> integerList = IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+
+		List<String> orderedResultList = dbe2.executeMany(Flux.fromIterable(integerList)).collectList().block();
+		Assert.assertEquals(integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()),
+				orderedResultList);
+		Assert.assertEquals(Long.valueOf(10), dbe2.getCallBackExecutionsCounter()); // enlisted in full batches
+
+		List<String> unorderedResultList = dbe2.executeMany(Flux.fromIterable(integerList), false).collectList()
+				.block();
+		Assert.assertEquals(new HashSet<>(orderedResultList), new HashSet<>(unorderedResultList));
+	}
+
+	@Test
+	public void executeManyDemandTest() throws InterruptedException {
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(50), 100,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		AtomicLong requestedCounter = new AtomicLong(0);
+		CountDownLatch resultsLatch = new CountDownLatch(5);
+		Flux<Integer> integerFlux = Flux.range(1, 1000).doOnRequest(requestedCounter::addAndGet);
+		dbe2.executeMany(integerFlux).subscribe(result -> resultsLatch.countDown(), null, null,
+				subscription -> subscription.request(5));
+		Assert.assertTrue(resultsLatch.await(1, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		Assert.assertEquals(5, requestedCounter.get()); // no more than the downstream demand
+	}
+
+	@Test
+	public void executeAllTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(50), 100,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		List<Integer> integerList = IntStream.rangeClosed(1, 250).boxed().collect(Collectors.toList());
+		List<String> expectedResultList = integerList.stream().map(value -> PREFIX + value)
+				.collect(Collectors.toList());
+
+		Assert.assertEquals(expectedResultList, dbe2.executeAll(integerList));
+		Assert.assertEquals(Long.valueOf(3), dbe2.getCallBackExecutionsCounter()); // split by maxSize
+		Assert.assertEquals(expectedResultList, dbe2.executeAllAsFuture(integerList).get());
+		Assert.assertEquals(Collections.emptyList(), dbe2.executeAll(Collections.emptyList()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void executeAllDifferentSizesTest() {
+		DelayedBatchExecutor3<String, Integer, Integer> dbe3 = DelayedBatchExecutor3.create(DBE_DURATION, DBE_MAX_SIZE,
+				(integerList1, integerList2) -> integerList1.stream().map(value -> PREFIX + value)
+						.collect(Collectors.toList()));
+		dbe3.executeAll(Arrays.asList(1, 2), Arrays.asList(1));
+	}
+
+	@Test
+	public void duplicatedRemovedOnEnlistTest() throws InterruptedException, ExecutionException {
+		List<List<Integer>> receivedArgumentsList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(100), 3)
+				.withBufferQueueSize(2).withRemoveDuplicatesOnEnlist(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedArgumentsList.add(integerList);
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Future<String>> futureResultList = new ArrayList<>();
+		for (Integer value : Arrays.asList(1, 1, 1, 1, 2, 2)) {
+			futureResultList.add(dbe2.executeAsFuture(value)); // duplicates take no place in the buffer queue
+		}
+		for (int index = 0; index < futureResultList.size(); index++) {
+			Assert.assertEquals(PREFIX + (index < 4 ? 1 : 2), futureResultList.get(index).get());
+		}
+		Assert.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), receivedArgumentsList);
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(1)));
+	}
+
+	@Test
+	public void duplicatedRemovedOnEnlistBufferTest() throws InterruptedException, ExecutionException {
+		CountDownLatch firstBatchStartedLatch = new CountDownLatch(1);
+		CountDownLatch firstBatchBlockingLatch = new CountDownLatch(1);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofSeconds(5), 2)
+				.withBufferQueueSize(4).withRemoveDuplicatesOnEnlist(true).withMaxConcurrentBatches(1);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			firstBatchStartedLatch.countDown();
+			awaitLatch(firstBatchBlockingLatch); // the next batches wait in the buffer meanwhile
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		Future<List<String>> firstBatchFuture = dbe2.executeAllAsFuture(Arrays.asList(-1, -2));
+		awaitLatch(firstBatchStartedLatch);
+		Future<String> pendingFuture = dbe2.executeAsFuture(1);
+
+		// 1 is pending, but the window is taken once 2 is enlisted, so the second 1 takes a place as well
+		try {
+			dbe2.executeAllAsFuture(Arrays.asList(2, 1, 3, 4));
+			Assert.fail("the buffer queue would be exceeded");
+		} catch (RejectedExecutionException e) {
+			log.info("duplicatedRemovedOnEnlistBufferTest=>It is capturing successfully the exception");
+		}
+		Future<List<String>> acceptedFuture = dbe2.executeAllAsFuture(Arrays.asList(1, 2));
+
+		firstBatchBlockingLatch.countDown();
+		Assert.assertEquals(Arrays.asList(PREFIX + -1, PREFIX + -2), firstBatchFuture.get());
+		Assert.assertEquals(PREFIX + 1, pendingFuture.get());
+		Assert.assertEquals(Arrays.asList(PREFIX + 1, PREFIX + 2), acceptedFuture.get());
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(1)));
+	}
+
+	@Test
+	public void countDistinctArgumentsTest() throws InterruptedException, ExecutionException, TimeoutException {
+		List<List<Integer>> receivedArgumentsList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofSeconds(5), 3)
+				.withCountDistinctArguments(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedArgumentsList.add(integerList);
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Future<String>> futureResultList = new ArrayList<>();
+		for (Integer value : Arrays.asList(1, 1, 1, 2, 2, 3)) {
+			futureResultList.add(dbe2.executeAsFuture(value));
+		}
+		// the third distinct argument reaches the maxSize, without waiting for the time window
+		Assert.assertEquals(PREFIX + 3, futureResultList.get(5).get(1, TimeUnit.SECONDS));
+		Assert.assertEquals(PREFIX + 1, futureResultList.get(2).get());
+		Assert.assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), receivedArgumentsList);
+	}
+
+	@Test
+	public void keyExtractorTest() throws InterruptedException, ExecutionException {
+		List<List<Integer>> receivedArgumentsList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 10)
+				.withKeyExtractor(arguments -> arguments.get(0));
+		DelayedBatchExecutor3<String, Integer, String> dbe3 = DelayedBatchExecutor3.createStreaming(config,
+				(integerList, stringList, resultSink) -> {
+					receivedArgumentsList.add(integerList);
+					integerList.forEach(value -> resultSink.emitForKey(PREFIX + value, value));
+					resultSink.complete();
+				});
+		Future<String> futureResult1 = dbe3.executeAsFuture(1, "a");
+		Future<String> futureResult1Duplicated = dbe3.executeAsFuture(1, "b"); // same key
+		Future<String> futureResult2 = dbe3.executeAsFuture(2, "a");
+		Assert.assertEquals(PREFIX + 1, futureResult1.get());
+		Assert.assertEquals(PREFIX + 1, futureResult1Duplicated.get());
+		Assert.assertEquals(PREFIX + 2, futureResult2.get());
+		Assert.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), receivedArgumentsList);
+	}
+
+	@Test
+	public void maxWeightTest() {
+		List<List<String>> receivedArgumentsList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(100), 100)
+				.withMaxWeight(arguments -> ((String) arguments.get(0)).length(), 10);
+		DelayedBatchExecutor2<Integer, String> dbe2 = DelayedBatchExecutor2.create(config, stringList -> {
+			receivedArgumentsList.add(stringList);
+			return stringList.stream().map(String::length).collect(Collectors.toList());
+		});
+		List<Integer> resultList = dbe2.executeAll(Arrays.asList("aaaa", "bbbb", "ccc", "dd"));
+		Assert.assertEquals(Arrays.asList(4, 4, 3, 2), resultList);
+		// "ccc" would exceed the maxWeight of the first batch
+		Assert.assertEquals(Arrays.asList(Arrays.asList("aaaa", "bbbb"), Arrays.asList("ccc", "dd")),
+				receivedArgumentsList);
+	}
+
+	@Test
+	public void subBatchesTest() {
+		List<Integer> receivedSizeList = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch allSubBatchesStartedLatch = new CountDownLatch(4);
+		AtomicInteger concurrentSubBatchesCounter = new AtomicInteger(0);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100)
+				.withSubBatches(4, 10);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedSizeList.add(integerList.size());
+			allSubBatchesStartedLatch.countDown();
+			try {
+				if (allSubBatchesStartedLatch.await(5, TimeUnit.SECONDS)) {
+					concurrentSubBatchesCounter.incrementAndGet(); // the others started while this one was executing
+				}
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Integer> integerList = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+		List<String> resultList = dbe2.executeAll(integerList);
+
+		Assert.assertEquals(integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()),
+				resultList);
+		Assert.assertEquals(Arrays.asList(25, 25, 25, 25), receivedSizeList);
+		Assert.assertEquals(Long.valueOf(4), dbe2.getCallBackExecutionsCounter());
+		Assert.assertEquals(4, concurrentSubBatchesCounter.get()); // the sub-batches are executed concurrently
+	}
+
+	@Test
+	public void idleDispatchTest() throws Exception {
+		List<Integer> receivedSizeList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5000), 100)
+				.withIdleDispatch(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedSizeList.add(integerList.size());
+			sleepCurrentThread(500);
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+
+		long startMillis = System.currentTimeMillis();
+		Future<String> firstFuture = dbe2.executeAsFuture(1); // nothing in flight, so it is dispatched right away
+		sleepCurrentThread(100);
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int value = 2; value <= 6; value++) {
+			futureList.add(dbe2.executeAsFuture(value)); // collected while the first one is in flight
+		}
+		Assert.assertEquals(PREFIX + 1, firstFuture.get());
+		for (int index = 0; index < futureList.size(); index++) {
+			Assert.assertEquals(PREFIX + (index + 2), futureList.get(index).get());
+		}
+		long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+		Assert.assertEquals(Arrays.asList(1, 5), receivedSizeList);
+		Assert.assertTrue(elapsedMillis < 5000); // the time window was not waited for
+	}
+
+	@Test
+	public void identityKeysEmitForKeyTest() {
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 10)
+				.withIdentityKeys(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.createStreaming(config,
+				(integerList, resultSink) -> {
+					for (Integer value : integerList) {
+						if (value < 0) {
+							resultSink.emitForKey(PREFIX + value, value); // not the list of arguments
+						}
+						resultSink.emitForKey(PREFIX + value, Collections.singletonList(value));
+					}
+					resultSink.complete();
+				});
+
+		Assert.assertEquals(PREFIX + 1000, dbe2.execute(1000));
+		try {
+			dbe2.execute(-1);
+			Assert.fail("a key which is not the list of arguments must be rejected");
+		} catch (IllegalArgumentException e) {
+			log.info("identityKeysEmitForKeyTest=>It is capturing successfully the exception");
+		}
+	}
+
+	@Test
+	public void flushPolicyTest() throws Exception {
+		List<Integer> receivedSizeList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5000), 100)
+				.withFlushPolicy(FlushPolicy.linger(3, Duration.ofMillis(200)));
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedSizeList.add(integerList.size());
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+
+		long startMillis = System.currentTimeMillis();
+		Assert.assertEquals(Arrays.asList(PREFIX + 1, PREFIX + 2, PREFIX + 3), dbe2.executeAll(Arrays.asList(1, 2, 3)));
+		Assert.assertEquals(PREFIX + 4, dbe2.execute(4)); // it lingers alone
+		long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+		Assert.assertEquals(Arrays.asList(3, 1), receivedSizeList);
+		Assert.assertTrue(elapsedMillis >= 200);
+		Assert.assertTrue(elapsedMillis < 5000);
+
+		DelayedBatchExecutor2<String, Integer> dbe2MaxAge = DelayedBatchExecutor2.create(
+				DelayedBatchExecutorConfig.create(Duration.ofMillis(5000), 100)
+						.withFlushPolicy(FlushPolicy.maxAge(Duration.ofMillis(100))),
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		startMillis = System.currentTimeMillis();
+		Assert.assertEquals(PREFIX + 5, dbe2MaxAge.execute(5));
+		Assert.assertTrue(System.currentTimeMillis() - startMillis < 5000);
+	}
+
+	@Test
+	public void flushPolicyFailingOnTimeoutTest() throws Exception {
+		AtomicInteger evaluationsCounter = new AtomicInteger(0);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5000), 100)
+				.withFlushPolicy(state -> {
+					if (evaluationsCounter.incrementAndGet() > 1) {
+						throw new IllegalStateException("failing flush policy"); // evaluated by the timer
+					}
+					return Duration.ofMillis(20);
+				});
+		AtomicInteger callBackCounter = new AtomicInteger(0);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			callBackCounter.incrementAndGet();
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+
+		Future<String> future = dbe2.executeAsFuture(1);
+		try {
+			future.get(2, TimeUnit.SECONDS);
+			Assert.fail("the exception of the flush policy must be given to the invocation");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		Assert.assertEquals(0, callBackCounter.get());
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(1))); // the failed invocation is finished
+	}
+
+	@Test
+	public void flushPolicyFailingOnEnlistTest() throws Exception {
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5000), 3)
+				.withFlushPolicy(state -> {
+					if (state.getPendingCount() == 2) {
+						throw new IllegalStateException("failing flush policy"); // evaluated by the invoking thread
+					}
+					return Duration.ofMillis(5000);
+				});
+		List<List<Integer>> receivedList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedList.add(integerList);
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+
+		Future<String> firstFuture = dbe2.executeAsFuture(1);
+		Future<String> secondFuture = dbe2.executeAsFuture(2); // it is not thrown to the invoking thread
+		Future<List<String>> bulkFuture = dbe2.executeAllAsFuture(Arrays.asList(3, 4, 5, 6, 7));
+		for (Future<?> future : Arrays.asList(firstFuture, secondFuture, bulkFuture)) {
+			try {
+				future.get(2, TimeUnit.SECONDS);
+				Assert.fail("the exception of the flush policy must be given to the pending invocations");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+			}
+		}
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(1)));
+		Assert.assertEquals(Collections.singletonList(Arrays.asList(3, 4, 5)), receivedList); // the ready batch
+	}
+
+	@Test
+	public void maxConcurrentBatchesTest() throws Exception {
+		AtomicInteger inFlightCounter = new AtomicInteger(0);
+		AtomicInteger maxInFlightCounter = new AtomicInteger(0);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(10), 1)
+				.withMaxConcurrentBatches(1);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			maxInFlightCounter.accumulateAndGet(inFlightCounter.incrementAndGet(), Math::max);
+			sleepCurrentThread(100);
+			inFlightCounter.decrementAndGet();
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int value = 1; value <= 4; value++) {
+			futureList.add(dbe2.executeAsFuture(value));
+		}
+		for (int index = 0; index < futureList.size(); index++) {
+			Assert.assertEquals(PREFIX + (index + 1), futureList.get(index).get());
+		}
+		Assert.assertEquals(Long.valueOf(4), dbe2.getCallBackExecutionsCounter());
+		Assert.assertEquals(1, maxInFlightCounter.get());
+	}
+
+	@Test
+	public void maxCoalescedSizeTest() throws Exception {
+		List<Integer> receivedSizeList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 2)
+				.withMaxConcurrentBatches(1).withMaxCoalescedSize(10);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			receivedSizeList.add(integerList.size());
+			sleepCurrentThread(200);
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int value = 1; value <= 8; value++) {
+			futureList.add(dbe2.executeAsFuture(value)); // 3 batches of 2 wait for the first one
+		}
+		for (int index = 0; index < futureList.size(); index++) {
+			Assert.assertEquals(PREFIX + (index + 1), futureList.get(index).get());
+		}
+		Assert.assertEquals(Arrays.asList(2, 6), receivedSizeList);
+	}
+
+	@Test
+	public void partitionerTest() {
+		Map<Integer, Set<String>> threadNamesByPartition = new ConcurrentHashMap<>();
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100)
+				.withPartitioner(arguments -> (Integer) arguments.get(0) % 3)
+				.withPartition(0, Duration.ofMillis(10), 2, 1)
+				.withPartitionAffinity(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			Set<Integer> partitionSet = integerList.stream().map(value -> value % 3).collect(Collectors.toSet());
+			Assert.assertEquals(1, partitionSet.size()); // every batch holds a single partition
+			threadNamesByPartition.computeIfAbsent(partitionSet.iterator().next(), partition -> new HashSet<>())
+					.add(Thread.currentThread().getName());
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Integer> integerList = IntStream.rangeClosed(1, 30).boxed().collect(Collectors.toList());
+		List<String> resultList = dbe2.executeAll(integerList);
+
+		Assert.assertEquals(integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()),
+				resultList);
+		Assert.assertEquals(Long.valueOf(2 + 5), dbe2.getCallBackExecutionsCounter()); // partition 0 by 2
+		Assert.assertEquals(3, threadNamesByPartition.size());
+		for (Set<String> threadNameSet : threadNamesByPartition.values()) {
+			Assert.assertEquals(1, threadNameSet.size()); // each partition is pinned to its thread
+		}
+		dbe2.close();
+	}
+
+	@Test
+	public void partitionCreatedAfterCloseTest() {
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(10), 10)
+				.withPartitioner(arguments -> arguments.get(0)).withPartitionAffinity(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		Assert.assertEquals(PREFIX + 1, dbe2.execute(1));
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+		try {
+			dbe2.executeAsFuture(2); // a new partition, which would never be closed
+			Assert.fail("a closed Delayed Batch Executor must not create new partitions");
+		} catch (RejectedExecutionException e) {
+			log.info("partitionCreatedAfterCloseTest=>new partition rejected as expected");
+		}
+	}
+
+	@Test
+	public void partitionerFailingTest() {
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(10), 10)
+				.withPartitioner(arguments -> {
+					if ((Integer) arguments.get(0) < 0) {
+						throw new IllegalStateException("failing partitioner");
+					}
+					return arguments.get(0);
+				});
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		for (List<Integer> integerList : Arrays.asList(Collections.singletonList(-1), Arrays.asList(2, -2))) {
+			try {
+				dbe2.executeAll(integerList);
+				Assert.fail("the exception of the partitioner must be thrown");
+			} catch (IllegalStateException e) {
+				log.info("partitionerFailingTest=>It is capturing successfully the exception");
+			}
+		}
+		try {
+			dbe2.execute(-1);
+			Assert.fail("the exception of the partitioner must be thrown");
+		} catch (IllegalStateException e) {
+			log.info("partitionerFailingTest=>It is capturing successfully the exception");
+		}
+		Assert.assertEquals(PREFIX + 1, dbe2.execute(1));
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(2))); // the failed invocations are not waited for
+	}
+
+	@Test
+	public void leaderFollowerTest() throws Exception {
+		Set<String> threadNameSet = Collections.synchronizedSet(new HashSet<>());
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100)
+				.withLeaderFollower(true);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			threadNameSet.add(Thread.currentThread().getName());
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		ExecutorService callerExecutorService = Executors.newFixedThreadPool(5,
+				runnable -> new Thread(runnable, "caller-" + runnable.hashCode()));
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int value = 1; value <= 5; value++) {
+			int argument = value;
+			futureList.add(callerExecutorService.submit(() -> dbe2.execute(argument)));
+		}
+		for (int index = 0; index < futureList.size(); index++) {
+			Assert.assertEquals(PREFIX + (index + 1), futureList.get(index).get());
+		}
+		callerExecutorService.shutdown();
+
+		Assert.assertFalse(threadNameSet.isEmpty());
+		for (String threadName : threadNameSet) {
+			Assert.assertTrue(threadName.startsWith("caller-")); // run by a blocked invoking thread
+		}
+	}
+
+	@Test
+	public void leaderFollowerInterruptedTest() throws Exception {
+		CountDownLatch secondEnlistedLatch = new CountDownLatch(1);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofSeconds(10), 2)
+				.withLeaderFollower(true).withMaxConcurrentBatches(1);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		AtomicReference<RuntimeException> interruptedException = new AtomicReference<>();
+		AtomicReference<Boolean> interruptedFlag = new AtomicReference<>();
+		Thread interruptedThread = new Thread(() -> {
+			try {
+				dbe2.execute(1);
+			} catch (RuntimeException e) {
+				interruptedException.set(e);
+				interruptedFlag.set(Thread.currentThread().isInterrupted());
+			}
+		});
+		interruptedThread.start();
+		interruptedThread.interrupt(); // it gives up waiting before or after being handed the batch
+		interruptedThread.join();
+		Thread followerThread = new Thread(() -> {
+			secondEnlistedLatch.countDown();
+			Assert.assertEquals(PREFIX + 2, dbe2.execute(2));
+		});
+		followerThread.start();
+		awaitLatch(secondEnlistedLatch);
+		followerThread.join(5000);
+
+		Assert.assertFalse(followerThread.isAlive()); // the batch was run by somebody
+		Assert.assertNotNull(interruptedException.get());
+		Assert.assertTrue(interruptedFlag.get());
+		Future<String> future3 = dbe2.executeAsFuture(3);
+		Future<String> future4 = dbe2.executeAsFuture(4);
+		Assert.assertEquals(PREFIX + 3, future3.get(5, TimeUnit.SECONDS)); // maxConcurrentBatches is not stalled
+		Assert.assertEquals(PREFIX + 4, future4.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	public void waitStrategyTest() throws Exception {
+		for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+			DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(1), 10)
+					.withWaitStrategy(waitStrategy);
+			DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config,
+					integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+			ExecutorService callerExecutorService = Executors.newFixedThreadPool(2);
+			List<Future<String>> futureList = new ArrayList<>();
+			for (int value = 1; value <= 20; value++) {
+				int argument = value;
+				futureList.add(callerExecutorService.submit(() -> dbe2.execute(argument)));
+			}
+			for (int index = 0; index < futureList.size(); index++) {
+				Assert.assertEquals(PREFIX + (index + 1), futureList.get(index).get());
+			}
+			Assert.assertEquals(PREFIX + 21, dbe2.executeAsFuture(21).get());
+			callerExecutorService.shutdown();
+			Assert.assertEquals(waitStrategy, dbe2.getWaitStrategy());
+			dbe2.close();
+		}
+	}
+
+	@Test
+	public void monoLazyEnlistTest() throws Exception {
+		List<List<Integer>> receivedList = Collections.synchronizedList(new ArrayList<>());
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(Duration.ofMillis(200), 10,
+				integerList -> {
+					receivedList.add(new ArrayList<>(integerList));
+					return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+				});
+
+		Mono<String> notSubscribedMono = dbe2.executeAsMono(1);
+		Assert.assertNotNull(notSubscribedMono);
+		Mono<String> sharedMono = dbe2.executeAsMono(2);
+		Assert.assertEquals(Arrays.asList(PREFIX + 2, PREFIX + 2),
+				Mono.zip(sharedMono, sharedMono, Arrays::asList).block()); // enlisted once
+
+		Disposable disposable = dbe2.executeAsMono(3).subscribe();
+		Future<String> future = dbe2.executeAsFuture(4);
+		disposable.dispose(); // cancelled before the time window finishes
+		Assert.assertEquals(PREFIX + 4, future.get());
+
+		Assert.assertEquals(Arrays.asList(Collections.singletonList(2), Collections.singletonList(4)), receivedList);
+		Assert.assertEquals(Long.valueOf(3), dbe2.getInvocationsCounter());
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5))); // the cancelled invocation is finished as well
+	}
+
+	@Test
+	public void completionExecutorServiceTest() {
+		AtomicInteger completionTasksCounter = new AtomicInteger(0);
+		ExecutorService completionExecutorService = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>()) {
+			@Override
+			protected void beforeExecute(Thread thread, Runnable runnable) {
+				completionTasksCounter.incrementAndGet();
+			}
+		};
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 100)
+				.withCompletionExecutorService(completionExecutorService, 25);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config,
+				integerList -> integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()));
+		List<Integer> integerList = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+		List<String> resultList = dbe2.executeAll(integerList);
+
+		Assert.assertEquals(integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList()),
+				resultList);
+		Assert.assertEquals(4, completionTasksCounter.get()); // 100 results in chunks of 25
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+		completionExecutorService.shutdown();
+	}
+
+	@Test
+	public void completionExecutorServiceStreamingTest() throws InterruptedException {
+		AtomicInteger completionTasksCounter = new AtomicInteger(0);
+		ExecutorService completionExecutorService = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>()) {
+			@Override
+			protected void beforeExecute(Thread thread, Runnable runnable) {
+				completionTasksCounter.incrementAndGet();
+			}
+		};
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(50), 2)
+				.withCompletionExecutorService(completionExecutorService, 25);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.createStreaming(config,
+				(integerList, resultSink) -> {
+					resultSink.emit(0, PREFIX + integerList.get(0));
+					resultSink.error(new IllegalStateException());
+				});
+		Future<String> emittedFuture = dbe2.executeAsFuture(1);
+		Future<String> failedFuture = dbe2.executeAsFuture(2);
+
+		try {
+			Assert.assertEquals(PREFIX + 1, emittedFuture.get());
+			failedFuture.get();
+			Assert.fail("the error given to the sink must be thrown");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		Assert.assertEquals(2, completionTasksCounter.get()); // the emitted result and the error
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+		completionExecutorService.shutdown();
+	}
+
+	@Test
+	public void rateLimitTest() throws InterruptedException, ExecutionException {
+		AtomicInteger callBacksCounter = new AtomicInteger(0);
+		long startNanos = System.nanoTime();
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(10), 1000)
+				.withRateLimit(5, 1);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			callBacksCounter.incrementAndGet();
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		List<Future<String>> futureList = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			futureList.add(dbe2.executeAsFuture(i));
+			sleepCurrentThread(6); // about 60 time windows
+		}
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(PREFIX + i, futureList.get(i).get());
+		}
+		long elapsedNanos = System.nanoTime() - startNanos;
+
+		// the invocations are collected in bigger batches instead of exceeding 5 executions per second
+		Assert.assertTrue(callBacksCounter.get() >= 1);
+		Assert.assertTrue(callBacksCounter.get() <= 1 + elapsedNanos / TimeUnit.MILLISECONDS.toNanos(200));
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	public void rateLimitPartitionsTest() throws Exception {
+		AtomicInteger callBacksCounter = new AtomicInteger(0);
+		long startNanos = System.nanoTime();
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(10), 1)
+				.withPartitioner(arguments -> (Integer) arguments.get(0) % 4).withRateLimit(50, 4);
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			callBacksCounter.incrementAndGet();
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		ExecutorService callerExecutorService = Executors.newFixedThreadPool(4);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<List<Future<String>>>> callerFutureList = new ArrayList<>();
+		for (int partition = 0; partition < 4; partition++) {
+			int callerPartition = partition;
+			callerFutureList.add(callerExecutorService.submit(() -> {
+				awaitLatch(startLatch);
+				List<Future<String>> futureList = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					futureList.add(dbe2.executeAsFuture(callerPartition + 4 * i)); // each one is a batch
+				}
+				return futureList;
+			}));
+		}
+		startLatch.countDown(); // the four partitions compete for the permits at the same time
+		for (Future<List<Future<String>>> callerFuture : callerFutureList) {
+			for (Future<String> future : callerFuture.get()) {
+				Assert.assertTrue(future.get(10, TimeUnit.SECONDS).startsWith(PREFIX));
+			}
+		}
+		double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+		// never more permits than the burst plus the ones refilled since the bucket was created
+		Assert.assertEquals(40, callBacksCounter.get());
+		Assert.assertTrue(callBacksCounter.get() <= 4 + 50 * elapsedSeconds);
+		callerExecutorService.shutdown();
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	public void queueDelayLoadSheddingTest() throws InterruptedException, ExecutionException {
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5), 2)
+				.withMaxConcurrentBatches(1).withQueueDelayTarget(Duration.ofMillis(50), Duration.ofMillis(100));
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			sleepCurrentThread(50); // a degraded database: 2 invocations every 50 ms
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		Map<Integer, Future<String>> futureMap = new ConcurrentHashMap<>();
+		long startNanos = System.nanoTime();
+		long rejectedNanos = 0;
+		for (int i = 0; rejectedNanos == 0 && System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5); i++) {
+			try {
+				futureMap.put(i, dbe2.executeAsFuture(i));
+			} catch (RejectedExecutionException e) {
+				rejectedNanos = System.nanoTime();
+			}
+			sleepCurrentThread(5);
+		}
+		for (Map.Entry<Integer, Future<String>> futureEntry : futureMap.entrySet()) {
+			Assert.assertEquals(PREFIX + futureEntry.getKey(), futureEntry.getValue().get());
+		}
+
+		// the load is shed instead of queueing all of the invocations, but not before the target plus the interval
+		Assert.assertTrue(rejectedNanos != 0);
+		Assert.assertTrue(rejectedNanos - startNanos >= TimeUnit.MILLISECONDS.toNanos(150));
+		Assert.assertEquals(PREFIX + 1000, dbe2.execute(1000)); // the buffer was drained, so it is accepted again
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	public void queueDelayLoadSheddingBlockedCallBackTest() throws InterruptedException, ExecutionException {
+		CountDownLatch firstBatchStartedLatch = new CountDownLatch(1);
+		CountDownLatch firstBatchBlockingLatch = new CountDownLatch(1);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofMillis(5), 1)
+				.withMaxConcurrentBatches(1).withQueueDelayTarget(Duration.ofMillis(50), Duration.ofMillis(50));
+		DelayedBatchExecutor2<String, Integer> dbe2 = DelayedBatchExecutor2.create(config, integerList -> {
+			firstBatchStartedLatch.countDown();
+			awaitLatch(firstBatchBlockingLatch); // a hung database: no batch is released meanwhile
+			return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+		});
+		Map<Integer, Future<String>> futureMap = new HashMap<>();
+		futureMap.put(0, dbe2.executeAsFuture(0));
+		awaitLatch(firstBatchStartedLatch);
+		long startNanos = System.nanoTime();
+		futureMap.put(1, dbe2.executeAsFuture(1)); // the oldest buffered invocation from now on
+		long rejectedNanos = 0;
+		for (int i = 2; rejectedNanos == 0 && System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5); i++) {
+			try {
+				futureMap.put(i, dbe2.executeAsFuture(i));
+			} catch (RejectedExecutionException e) {
+				rejectedNanos = System.nanoTime();
+			}
+			sleepCurrentThread(5);
+		}
+
+		// the load is shed once the oldest buffered invocation has waited the target plus the interval
+		Assert.assertTrue(rejectedNanos != 0);
+		Assert.assertTrue(rejectedNanos - startNanos >= TimeUnit.MILLISECONDS.toNanos(100));
+		firstBatchBlockingLatch.countDown();
+		for (Map.Entry<Integer, Future<String>> futureEntry : futureMap.entrySet()) {
+			Assert.assertEquals(PREFIX + futureEntry.getKey(), futureEntry.getValue().get());
+		}
+		Assert.assertEquals(PREFIX + 1000, dbe2.execute(1000)); // the buffer was drained, so it is accepted again
+		Assert.assertTrue(dbe2.close(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	public void tenantFairnessTest() throws InterruptedException, ExecutionException {
+		List<List<String>> batchTenantsList = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch firstBatchStartedLatch = new CountDownLatch(1);
+		CountDownLatch firstBatchBlockingLatch = new CountDownLatch(1);
+		DelayedBatchExecutorConfig config = DelayedBatchExecutorConfig.create(Duration.ofSeconds(10), 10)
+				.withMaxConcurrentBatches(1).withTenantFairness(arguments -> arguments.get(0), 60);
+		DelayedBatchExecutor3<String, String, Integer> dbe3 = DelayedBatchExecutor3.create(config,
+				(tenantList, integerList) -> {
+					batchTenantsList.add(tenantList);
+					firstBatchStartedLatch.countDown();
+					awaitLatch(firstBatchBlockingLatch);
+					return integerList.stream().map(value -> PREFIX + value).collect(Collectors.toList());
+				});
+		Map<Integer, Future<String>> bulkFutureMap = new HashMap<>();
+		for (int i = 0; i < 10; i++) {
+			bulkFutureMap.put(i, dbe3.executeAsFuture("bulk", i)); // the first batch, blocked in the batchCallBack
+		}
+		awaitLatch(firstBatchStartedLatch);
+		int rejected = 0;
+		for (int i = 10; i < 100; i++) {
+			try {
+				bulkFutureMap.put(i, dbe3.executeAsFuture("bulk", i));
+			} catch (RejectedExecutionException e) {
+				rejected++; // more than 60 invocations of the tenant waiting
+			}
+		}
+		Map<Integer, Future<String>> interactiveFutureMap = new HashMap<>();
+		for (int i = 0; i < 10; i++) {
+			interactiveFutureMap.put(i, dbe3.executeAsFuture("interactive", i));
+		}
+		firstBatchBlockingLatch.countDown();
+		for (Map.Entry<Integer, Future<String>> futureEntry : interactiveFutureMap.entrySet()) {
+			Assert.assertEquals(PREFIX + futureEntry.getKey(), futureEntry.getValue().get());
+		}
+		for (Map.Entry<Integer, Future<String>> futureEntry : bulkFutureMap.entrySet()) {
+			Assert.assertEquals(PREFIX + futureEntry.getKey(), futureEntry.getValue().get());
+		}
+
+		Assert.assertEquals(30, rejected);
+		Assert.assertEquals(70, bulkFutureMap.size());
+		Assert.assertEquals(Collections.nCopies(10, "bulk"), batchTenantsList.get(0));
+		// the interactive invocations share the second batch instead of waiting for the 60 bulk ones enlisted before
+		Assert.assertEquals(5, Collections.frequency(batchTenantsList.get(1), "interactive"));
+		Assert.assertEquals(5, Collections.frequency(batchTenantsList.get(1), "bulk"));
+		Assert.assertTrue(dbe3.close(Duration.ofSeconds(5)));
+	}
+
 	@Test
 	public void duplicatedRemovedTest() {
 		DelayedBatchExecutor2<String, String> dbe2 = DelayedBatchExecutor2.create(DBE_DURATION, 500, null,
@@ -561,6 +1479,14 @@ public class DelayedBatchExecutorTest {
 		return threads;
 	}
 
+	private static void awaitLatch(CountDownLatch countDownLatch) {
+		try {
+			countDownLatch.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	private static void sleepCurrentThread(int milliseconds) {
 		try {
 			Thread.sleep(milliseconds);
@@ -0,0 +1,36 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HashedWheelTimerTest {
+
+	@Test
+	public void scheduleAndCancelTest() throws InterruptedException {
+		HashedWheelTimer hashedWheelTimer = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 8);
+		CountDownLatch countDownLatch = new CountDownLatch(2);
+		AtomicInteger cancelledCounter = new AtomicInteger(0);
+		long before = System.nanoTime();
+		hashedWheelTimer.schedule(countDownLatch::countDown, 5, TimeUnit.MILLISECONDS);
+		hashedWheelTimer.schedule(countDownLatch::countDown, 30, TimeUnit.MILLISECONDS); // several rounds of the wheel
+		hashedWheelTimer.schedule(cancelledCounter::incrementAndGet, 10, TimeUnit.MILLISECONDS).cancel();
+		Assert.assertTrue(countDownLatch.await(2, TimeUnit.SECONDS));
+		Assert.assertTrue(System.nanoTime() - before >= TimeUnit.MILLISECONDS.toNanos(30));
+		Thread.sleep(20);
+		Assert.assertEquals(0, cancelledCounter.get());
+		Assert.assertEquals(0, hashedWheelTimer.getPendingTimeouts());
+	}
+
+	@Test
+	public void scheduleAfterIdleTest() throws InterruptedException {
+		HashedWheelTimer hashedWheelTimer = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 8);
+		Thread.sleep(50); // the worker thread is parked as there is nothing scheduled
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+		hashedWheelTimer.schedule(countDownLatch::countDown, 1, TimeUnit.MILLISECONDS);
+		Assert.assertTrue(countDownLatch.await(1, TimeUnit.SECONDS));
+	}
+}
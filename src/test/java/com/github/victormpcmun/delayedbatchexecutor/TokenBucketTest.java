@@ -0,0 +1,41 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketTest {
+
+	private static final long PERMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+	@Test
+	public void tryAcquireTest() {
+		TokenBucket tokenBucket = new TokenBucket(5, 2); // a permit every 200 ms
+		long nowNanos = System.nanoTime();
+
+		Assert.assertEquals(2, tokenBucket.tryAcquire(nowNanos, 3)); // the burst
+		Assert.assertEquals(0, tokenBucket.tryAcquire(nowNanos, 1));
+		Assert.assertEquals(PERMIT_NANOS, tokenBucket.getNanosUntilPermits(nowNanos, 1));
+		Assert.assertEquals(2 * PERMIT_NANOS, tokenBucket.getNanosUntilPermits(nowNanos, 2));
+		Assert.assertEquals(0, tokenBucket.tryAcquire(nowNanos + PERMIT_NANOS - 1, 1));
+		Assert.assertEquals(1, tokenBucket.tryAcquire(nowNanos + PERMIT_NANOS, 2));
+		Assert.assertEquals(0, tokenBucket.getAvailablePermits(nowNanos + PERMIT_NANOS));
+
+		// the permits are not accumulated beyond the burst
+		Assert.assertEquals(2, tokenBucket.getAvailablePermits(nowNanos + 50 * PERMIT_NANOS));
+		Assert.assertEquals(2, tokenBucket.tryAcquire(nowNanos + 50 * PERMIT_NANOS, 5));
+	}
+
+	@Test
+	public void giveBackTest() {
+		TokenBucket tokenBucket = new TokenBucket(5, 2);
+		long nowNanos = System.nanoTime();
+
+		Assert.assertEquals(2, tokenBucket.tryAcquire(nowNanos, 2));
+		tokenBucket.giveBack(1);
+		Assert.assertEquals(1, tokenBucket.getAvailablePermits(nowNanos));
+		Assert.assertEquals(1, tokenBucket.tryAcquire(nowNanos, 2));
+		Assert.assertEquals(0, tokenBucket.getAvailablePermits(nowNanos));
+	}
+}
@@ -0,0 +1,42 @@
+package com.github.victormpcmun.delayedbatchexecutor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TupleListSplitterTest {
+
+	@Test
+	public void splitBySizeTest() {
+		List<Tuple<Integer>> tupleList = new ArrayList<>();
+		for (int index = 0; index < 10; index++) {
+			tupleList.add(new TupleFuture<>(index));
+		}
+
+		List<List<Tuple<Integer>>> subTupleLists = TupleListSplitter.splitByWeight(tupleList, 3);
+
+		Assert.assertEquals(3, subTupleLists.size());
+		Assert.assertEquals(3, subTupleLists.get(0).size());
+		Assert.assertEquals(3, subTupleLists.get(1).size());
+		Assert.assertEquals(4, subTupleLists.get(2).size());
+		Assert.assertEquals(tupleList.get(3), subTupleLists.get(1).get(0));
+	}
+
+	@Test
+	public void splitByWeightTest() {
+		List<Tuple<Integer>> tupleList = new ArrayList<>();
+		for (int weight : new int[] { 6, 1, 1, 1, 1, 1, 1 }) {
+			Tuple<Integer> tuple = new TupleFuture<>(weight);
+			tuple.setWeight(weight);
+			tupleList.add(tuple);
+		}
+
+		List<List<Tuple<Integer>>> subTupleLists = TupleListSplitter.splitByWeight(tupleList, 2);
+
+		Assert.assertEquals(2, subTupleLists.size());
+		Assert.assertEquals(1, subTupleLists.get(0).size()); // the heavy one alone
+		Assert.assertEquals(6, subTupleLists.get(1).size());
+	}
+}